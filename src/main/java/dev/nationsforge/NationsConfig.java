@@ -0,0 +1,72 @@
+package dev.nationsforge;
+
+import net.minecraftforge.common.ForgeConfigSpec;
+
+/**
+ * Common config for Dominion ({@code config/nationsforge-common.toml}).
+ * Registered from the {@link NationsForge} constructor.
+ */
+public final class NationsConfig {
+
+    public static final ForgeConfigSpec SPEC;
+
+    // ── Sync ─────────────────────────────────────────────────────────────────────
+    public static final ForgeConfigSpec.BooleanValue COALESCE_BROADCASTS;
+    public static final ForgeConfigSpec.IntValue BROADCAST_WINDOW_TICKS;
+    public static final ForgeConfigSpec.IntValue COMPRESSION_THRESHOLD;
+
+    // ── Persistence ──────────────────────────────────────────────────────────────
+    public static final ForgeConfigSpec.IntValue JOURNAL_COMPACT_THRESHOLD;
+
+    // ── Diplomacy ────────────────────────────────────────────────────────────────
+    public static final ForgeConfigSpec.IntValue DIPLOMACY_REQUEST_TTL_MINUTES;
+
+    // ── Economy ──────────────────────────────────────────────────────────────────
+    public static final ForgeConfigSpec.IntValue ECONOMY_TICK_BUDGET_MICROS;
+
+    static {
+        ForgeConfigSpec.Builder b = new ForgeConfigSpec.Builder();
+
+        b.push("sync");
+        COALESCE_BROADCASTS = b
+                .comment("Batch nation mutations into one broadcast per window instead of",
+                        "syncing after every single change.")
+                .define("coalesceBroadcasts", true);
+        BROADCAST_WINDOW_TICKS = b
+                .comment("How many server ticks to collect mutations before broadcasting them.",
+                        "1 = flush at the end of the tick the change happened in.")
+                .defineInRange("broadcastWindowTicks", 1, 1, 200);
+        COMPRESSION_THRESHOLD = b
+                .comment("Nation sync bodies larger than this many bytes are deflated.",
+                        "-1 disables compression.")
+                .defineInRange("compressionThreshold", 512, -1, Integer.MAX_VALUE);
+        b.pop();
+
+        b.push("persistence");
+        JOURNAL_COMPACT_THRESHOLD = b
+                .comment("Number of journaled nation operations after which the next autosave",
+                        "rewrites the full save file and clears the journal.")
+                .defineInRange("journalCompactThreshold", 500, 1, Integer.MAX_VALUE);
+        b.pop();
+
+        b.push("diplomacy");
+        DIPLOMACY_REQUEST_TTL_MINUTES = b
+                .comment("Minutes a diplomacy request may stay unanswered before it expires.",
+                        "Applies to requests created or loaded while set. 0 = never expire.")
+                .defineInRange("requestTtlMinutes", 1440, 0, 525_600);
+        b.pop();
+
+        b.push("economy");
+        ECONOMY_TICK_BUDGET_MICROS = b
+                .comment("Microseconds per server tick the periodic nation economy cycle may use.",
+                        "The cycle is spread over as many ticks as it needs; at least one nation",
+                        "is processed per tick.")
+                .defineInRange("tickBudgetMicros", 2000, 50, 50_000);
+        b.pop();
+
+        SPEC = b.build();
+    }
+
+    private NationsConfig() {
+    }
+}
@@ -7,7 +7,9 @@ import net.minecraftforge.client.event.RegisterKeyMappingsEvent;
 import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.eventbus.api.IEventBus;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.ModLoadingContext;
 import net.minecraftforge.fml.common.Mod;
+import net.minecraftforge.fml.config.ModConfig;
 import net.minecraftforge.fml.event.lifecycle.FMLClientSetupEvent;
 import net.minecraftforge.fml.javafmlmod.FMLJavaModLoadingContext;
 import org.apache.logging.log4j.LogManager;
@@ -25,6 +27,8 @@ public class NationsForge {
         // Register items
         ModItems.ITEMS.register(modBus);
 
+        ModLoadingContext.get().registerConfig(ModConfig.Type.COMMON, NationsConfig.SPEC);
+
         // Register network packets on the mod event bus (happens early enough)
         modBus.addListener(this::onCommonSetup);
         modBus.addListener(this::onClientSetup);
@@ -97,21 +97,23 @@ public final class BotNationAI {
             NationSavedData data, Random rng) {
 
         // 1. Passive income: territory + virtual population
-        bot.addTreasury(bot.getTerritory() * INCOME_PER_CHUNK);
-        bot.addTreasury((long) bot.getMemberCount() * INCOME_PER_MEMBER_EQUIVALENT);
-
         // 2. Trade-pact income bonus
-        long tradeCount = bot.getRelations().values().stream()
-                .filter(r -> r.getType() == RelationType.TRADE_PACT).count();
-        bot.addTreasury(tradeCount * 80L);
+        long tradeCount = bot.countRelations(RelationType.TRADE_PACT);
+        long income = bot.getTerritory() * INCOME_PER_CHUNK
+                + (long) bot.getMemberCount() * INCOME_PER_MEMBER_EQUIVALENT
+                + tradeCount * 80L;
+        if (income != 0) {
+            bot.addTreasury(income);
+            data.logTreasury(bot, income);
+        }
 
         // 3. Random event roll
         int roll = rng.nextInt(100);
 
         if (roll < CHANCE_EXPAND && bot.getTreasury() > 400) {
-            handleExpand(server, bot, rng);
+            handleExpand(server, bot, data, rng);
         } else if (roll < CHANCE_EXPAND + CHANCE_RECRUIT) {
-            handleRecruit(server, bot, rng);
+            handleRecruit(server, bot, data, rng);
         } else if (roll < CHANCE_EXPAND + CHANCE_RECRUIT + CHANCE_DIPLOMACY) {
             handleDiplomacy(server, bot, data, rng);
         } else if (roll < CHANCE_EXPAND + CHANCE_RECRUIT + CHANCE_DIPLOMACY + CHANCE_ANNOUNCE) {
@@ -124,13 +126,16 @@ public final class BotNationAI {
 
     // ── Event handlers ───────────────────────────────────────────────────────────
 
-    private static void handleExpand(MinecraftServer server, Nation bot, Random rng) {
+    private static void handleExpand(MinecraftServer server, Nation bot,
+            NationSavedData data, Random rng) {
         long cost = 200L + rng.nextInt(300);
         if (bot.getTreasury() < cost)
             return;
         long gain = 1 + rng.nextInt(4);
         bot.setTerritory(bot.getTerritory() + gain);
         bot.addTreasury(-cost);
+        data.logTerritory(bot);
+        data.logTreasury(bot, -cost);
 
         if (rng.nextInt(100) < 35) {
             String dir = DIRECTIONS[rng.nextInt(DIRECTIONS.length)];
@@ -139,11 +144,14 @@ public final class BotNationAI {
         }
     }
 
-    private static void handleRecruit(MinecraftServer server, Nation bot, Random rng) {
+    private static void handleRecruit(MinecraftServer server, Nation bot,
+            NationSavedData data, Random rng) {
         // Bots grow territory slightly to represent population growth
         if (rng.nextBoolean() && bot.getTreasury() > 100) {
             bot.setTerritory(bot.getTerritory() + 1);
             bot.addTreasury(-50L);
+            data.logTerritory(bot);
+            data.logTreasury(bot, -50L);
         }
         if (rng.nextInt(100) < 25) {
             broadcast(server, String.format(
@@ -165,6 +173,7 @@ public final class BotNationAI {
             // Ceasefire
             bot.setRelation(target.getId(), RelationType.NEUTRAL, "Ceasefire");
             target.setRelation(bot.getId(), RelationType.NEUTRAL, "Ceasefire");
+            data.logRelation(bot, target);
             broadcast(server, String.format(PEACE_MSGS[rng.nextInt(PEACE_MSGS.length)],
                     bot.getName(), target.getName()));
 
@@ -173,12 +182,14 @@ public final class BotNationAI {
                 // Alliance
                 bot.setRelation(target.getId(), RelationType.ALLIANCE, "AI diplomacy");
                 target.setRelation(bot.getId(), RelationType.ALLIANCE, "AI diplomacy");
+                data.logRelation(bot, target);
                 broadcast(server, String.format(ALLIANCE_MSGS[rng.nextInt(ALLIANCE_MSGS.length)],
                         bot.getName(), target.getName()));
             } else {
                 // Trade pact
                 bot.setRelation(target.getId(), RelationType.TRADE_PACT, "AI trade");
                 target.setRelation(bot.getId(), RelationType.TRADE_PACT, "AI trade");
+                data.logRelation(bot, target);
                 broadcast(server, String.format(TRADE_MSGS[rng.nextInt(TRADE_MSGS.length)],
                         bot.getName(), target.getName()));
             }
@@ -187,6 +198,7 @@ public final class BotNationAI {
             // Alliance dissolves into rivalry
             bot.setRelation(target.getId(), RelationType.RIVALRY, "Diplomatic falling out");
             target.setRelation(bot.getId(), RelationType.RIVALRY, "Diplomatic falling out");
+            data.logRelation(bot, target);
             broadcast(server, "§8[§7Diplomacy§8] §7The alliance between §f"
                     + bot.getName() + " §7and §f" + target.getName() + " §7has dissolved.");
 
@@ -194,11 +206,10 @@ public final class BotNationAI {
             // Rivalry escalates to war
             bot.setRelation(target.getId(), RelationType.WAR, "AI war declaration");
             target.setRelation(bot.getId(), RelationType.WAR, "AI war declaration");
+            data.logRelation(bot, target);
             broadcast(server, String.format(WAR_MSGS[rng.nextInt(WAR_MSGS.length)],
                     bot.getName(), target.getName()));
         }
-
-        data.setDirty();
     }
 
     private static void handleAnnounce(MinecraftServer server, Nation bot, Random rng) {
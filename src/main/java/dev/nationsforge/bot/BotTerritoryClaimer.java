@@ -0,0 +1,184 @@
+package dev.nationsforge.bot;
+
+import dev.nationsforge.NationsForge;
+import dev.nationsforge.integration.ftbchunks.FTBChunksProxy;
+import dev.nationsforge.nation.Nation;
+import dev.nationsforge.nation.NationManager;
+import dev.nationsforge.nation.NationSavedData;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.server.MinecraftServer;
+import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.event.server.ServerStoppedEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Sets up bot nations' FTB teams and starting territory in the background.
+ *
+ * {@link WorldBotGenerator} only queues one job per bot with its chunk square
+ * already laid out. Each server tick this works through at most
+ * {@link #WORK_PER_TICK} units (one team creation or one chunk claim each),
+ * so generating a world's bots no longer stalls the first server tick. All of
+ * a team's chunks are claimed against one resolved ChunkTeamData and marked
+ * dirty once when the team is done.
+ *
+ * Queued bots are recorded in {@link NationSavedData#getPendingBotTerritory()}
+ * until their job finishes, and {@link #resume} re-queues them on server start,
+ * so a shutdown before the queue drains does not leave bots without territory.
+ * A resumed job starts over; claiming a chunk the team already owns is a no-op.
+ */
+@Mod.EventBusSubscriber(modid = NationsForge.MOD_ID, bus = Mod.EventBusSubscriber.Bus.FORGE)
+public final class BotTerritoryClaimer {
+
+    /** Team creations + chunk claims processed per server tick. */
+    private static final int WORK_PER_TICK = 32;
+
+    /** One bot's team and chunk square. */
+    private static final class Job {
+        final UUID nationId;
+        final String teamName;
+        final int[] chunkX;
+        final int[] chunkZ;
+        final int capX, capZ, radius;
+        int next = 0;
+        boolean teamCreated = false;
+        Object teamData;
+
+        Job(UUID nationId, String teamName, int capX, int capZ, int radius) {
+            this.nationId = nationId;
+            this.teamName = teamName;
+            this.capX = capX;
+            this.capZ = capZ;
+            this.radius = radius;
+            int side = 2 * radius + 1;
+            chunkX = new int[side * side];
+            chunkZ = new int[side * side];
+            int i = 0;
+            for (int dx = -radius; dx <= radius; dx++) {
+                for (int dz = -radius; dz <= radius; dz++) {
+                    chunkX[i] = (capX >> 4) + dx;
+                    chunkZ[i] = (capZ >> 4) + dz;
+                    i++;
+                }
+            }
+        }
+    }
+
+    private static final Deque<Job> queue = new ArrayDeque<>();
+
+    private BotTerritoryClaimer() {
+    }
+
+    /** Queue a bot's team creation and a chunk square of {@code radius} around its capital. */
+    static void enqueue(NationSavedData data, Nation bot, int radius) {
+        data.addPendingBotTerritory(bot.getId(), radius);
+        queue(bot, radius);
+    }
+
+    /**
+     * Re-queues bots whose territory setup was cut short by a shutdown. Called
+     * on server start, before any new bots are generated.
+     */
+    public static void resume(NationSavedData data) {
+        for (Map.Entry<UUID, Integer> e : Map.copyOf(data.getPendingBotTerritory()).entrySet()) {
+            Optional<Nation> bot = data.getNationById(e.getKey());
+            if (bot.isEmpty() || !bot.get().isBot()) {
+                data.clearPendingBotTerritory(e.getKey());
+                continue;
+            }
+            if (queue.stream().noneMatch(job -> job.nationId.equals(e.getKey())))
+                queue(bot.get(), e.getValue());
+        }
+        if (!queue.isEmpty())
+            NationsForge.LOGGER.info("[Dominion] Resuming territory setup for {} bot nation(s)", queue.size());
+    }
+
+    private static void queue(Nation bot, int radius) {
+        String teamName = "dominion_" + bot.getTag().toLowerCase();
+        queue.add(new Job(bot.getId(), teamName, bot.getCapitalX(), bot.getCapitalZ(), radius));
+    }
+
+    @SubscribeEvent
+    public static void onServerTick(TickEvent.ServerTickEvent event) {
+        if (event.phase != TickEvent.Phase.END || queue.isEmpty())
+            return;
+        MinecraftServer server = net.minecraftforge.server.ServerLifecycleHooks.getCurrentServer();
+        if (server == null)
+            return;
+
+        CommandSourceStack source = null;
+        int budget = WORK_PER_TICK;
+        while (budget > 0 && !queue.isEmpty()) {
+            Job job = queue.peek();
+
+            if (!job.teamCreated) {
+                // Idempotent, calls syncToAll internally
+                WorldBotGenerator.runCmd(server, "ftbteams server create " + job.teamName);
+                job.teamCreated = true;
+                budget--;
+                continue;
+            }
+
+            if (!FTBChunksProxy.isLoaded()) {
+                // FTBChunks not installed — command fallback (no-op if mod absent)
+                WorldBotGenerator.runCmd(server, "ftbchunks admin claim_as " + job.teamName
+                        + " " + job.radius + " " + job.capX + " " + job.capZ);
+                NationManager.getData(server).clearPendingBotTerritory(job.nationId);
+                queue.poll();
+                budget--;
+                continue;
+            }
+
+            if (job.teamData == null) {
+                job.teamData = FTBChunksProxy.prepareTeam(job.teamName);
+                if (job.teamData == null) {
+                    queue.poll();
+                    if (FTBChunksProxy.isTeamMissing(job.teamName)) {
+                        // The team create above did not take; retrying on every start would not help
+                        NationManager.getData(server).clearPendingBotTerritory(job.nationId);
+                        NationsForge.LOGGER.warn("[Dominion] Bot team '{}' does not exist — giving up on its territory",
+                                job.teamName);
+                    } else {
+                        NationsForge.LOGGER.warn("[Dominion] Could not prepare bot team '{}' — will retry on next start",
+                                job.teamName);
+                    }
+                    continue;
+                }
+            }
+
+            if (source == null)
+                source = server.createCommandSourceStack().withPermission(4);
+            boolean ok = true;
+            while (budget > 0 && job.next < job.chunkX.length && ok) {
+                ok = FTBChunksProxy.claim(job.teamData, job.teamName, source, job.chunkX[job.next],
+                        job.chunkZ[job.next]);
+                job.next++;
+                budget--;
+            }
+            if (!ok) {
+                // Only this job stops; it stays pending and is retried on the next server start
+                queue.poll();
+                NationsForge.LOGGER.warn("[Dominion] Bot team '{}' territory stopped after {} of {} chunks"
+                        + " — will retry on next start", job.teamName, job.next - 1, job.chunkX.length);
+            } else if (job.next == job.chunkX.length) {
+                FTBChunksProxy.finishTeam(job.teamData, job.teamName, job.next);
+                NationManager.getData(server).clearPendingBotTerritory(job.nationId);
+                queue.poll();
+                NationsForge.LOGGER.debug("[Dominion] Bot team '{}' territory set up: radius {} at ({},{})",
+                        job.teamName, job.radius, job.capX, job.capZ);
+            }
+        }
+    }
+
+    /** Unfinished jobs stay recorded in the saved data and are resumed on the next start. */
+    @SubscribeEvent
+    public static void onServerStopped(ServerStoppedEvent event) {
+        queue.clear();
+    }
+}
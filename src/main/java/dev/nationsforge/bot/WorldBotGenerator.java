@@ -1,7 +1,6 @@
 package dev.nationsforge.bot;
 
 import dev.nationsforge.NationsForge;
-import dev.nationsforge.integration.ftbchunks.FTBChunksProxy;
 import dev.nationsforge.nation.Nation;
 import dev.nationsforge.nation.NationPowerCalculator;
 import dev.nationsforge.nation.NationSavedData;
@@ -114,18 +113,20 @@ public final class WorldBotGenerator {
         }
 
         // Seed initial relations between bot nations
-        seedRelations(bots, rng, data);
+        seedRelations(bots, rng);
 
         // Calculate initial power for all bots
         for (Nation bot : bots) {
             NationPowerCalculator.recalculate(bot);
         }
 
+        // Generation runs once per world and touches every bot, so it is saved as a
+        // full write rather than journalled record by record
         data.setWorldBotGenerated(true);
         data.setDirty();
 
         // Create FTB Teams server teams and claim FTBChunks territory for each bot
-        setupBotTeamsAndChunks(server, bots);
+        setupBotTeamsAndChunks(data, bots);
 
         // Announce to online players
         announceGeneration(server, bots, rng);
@@ -178,41 +179,24 @@ public final class WorldBotGenerator {
     // ───────────────────────────────────────────────────────────
 
     /**
-     * For every bot nation:
-     * 1. Creates the FTB Teams server team "dominion_TAG".
-     * 2. Runs {@code ftbchunks admin claim_as} to claim territory around the
-     * capital.
+     * For every bot nation, queues with {@link BotTerritoryClaimer}:
+     * 1. Creation of the FTB Teams server team "dominion_TAG".
+     * 2. Claiming territory around the capital (direct FTBChunks API, or
+     * {@code ftbchunks admin claim_as} if FTBChunks is absent).
      *
-     * Both operations are best-effort and logged. If FTB Teams / FTBChunks
-     * is absent the commands simply fail silently.
+     * The work is spread over the following server ticks. Both operations are
+     * best-effort and logged. If FTB Teams / FTBChunks is absent the commands
+     * simply fail silently.
      */
-    private static void setupBotTeamsAndChunks(MinecraftServer server, List<Nation> bots) {
+    private static void setupBotTeamsAndChunks(NationSavedData data, List<Nation> bots) {
         for (Nation bot : bots) {
-            String teamName = "dominion_" + bot.getTag().toLowerCase();
-            int capX = bot.getCapitalX();
-            int capZ = bot.getCapitalZ();
-
-            // 1. Create FTB Teams server team via command (idempotent, calls syncToAll internally)
-            runCmd(server, "ftbteams server create " + teamName);
-
-            // 2. Claim territory via direct FTBChunks API (bypasses command-arg parsing issues)
             int territory = (int) bot.getTerritory();
             int radius = Math.max(1, (int) Math.round(Math.sqrt(territory) / 2.0));
-
-            if (FTBChunksProxy.isLoaded()) {
-                FTBChunksProxy.claimChunksForBotTeam(server, teamName, capX, capZ, radius);
-            } else {
-                // FTBChunks not installed — command fallback (no-op if mod absent)
-                runCmd(server, "ftbchunks admin claim_as " + teamName
-                        + " " + radius + " " + capX + " " + capZ);
-            }
-
-            NationsForge.LOGGER.debug("[Dominion] Bot '{}' team+chunks set up: {}×{} radius at ({},{})",
-                    bot.getTag(), territory, radius, capX, capZ);
+            BotTerritoryClaimer.enqueue(data, bot, radius);
         }
     }
 
-    private static boolean runCmd(MinecraftServer server, String command) {
+    static boolean runCmd(MinecraftServer server, String command) {
         try {
             CommandSourceStack src = server.createCommandSourceStack().withSuppressedOutput();
             int result = server.getCommands().performPrefixedCommand(src, command);
@@ -226,7 +210,7 @@ public final class WorldBotGenerator {
 
     // ── Relation seeding ─────────────────────────────────────────────────────────
 
-    private static void seedRelations(List<Nation> bots, Random rng, NationSavedData data) {
+    private static void seedRelations(List<Nation> bots, Random rng) {
         for (int i = 0; i < bots.size(); i++) {
             for (int j = i + 1; j < bots.size(); j++) {
                 Nation a = bots.get(i);
@@ -252,7 +236,6 @@ public final class WorldBotGenerator {
                 }
             }
         }
-        data.setDirty();
     }
 
     // ── Announcement ─────────────────────────────────────────────────────────────
@@ -275,10 +258,8 @@ public final class WorldBotGenerator {
 
         for (int i = 0; i < show; i++) {
             Nation n = shuffled.get(i);
-            long wars = n.getRelations().values().stream()
-                    .filter(r -> r.getType() == RelationType.WAR).count();
-            long allies = n.getRelations().values().stream()
-                    .filter(r -> r.getType() == RelationType.ALLIANCE).count();
+            long wars = n.countRelations(RelationType.WAR);
+            long allies = n.countRelations(RelationType.ALLIANCE);
 
             String extra = "";
             if (wars > 0)
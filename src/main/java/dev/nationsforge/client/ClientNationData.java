@@ -2,28 +2,68 @@ package dev.nationsforge.client;
 
 import dev.nationsforge.nation.DiplomacyRequest;
 import dev.nationsforge.nation.Nation;
+import dev.nationsforge.nation.NationLeaderboard;
 import dev.nationsforge.nation.NationRank;
 import dev.nationsforge.nation.RelationType;
-import net.minecraft.nbt.CompoundTag;
-import net.minecraft.nbt.ListTag;
-import net.minecraft.nbt.Tag;
+import dev.nationsforge.network.PacketHandler;
+import dev.nationsforge.network.packet.C2SInspectNationPacket;
+import dev.nationsforge.network.packet.C2SRequestNationSyncPacket;
 
 import javax.annotation.Nullable;
 import java.util.*;
 
 /**
- * Singleton client-side cache of all nations data received from the server.
- * Updated every time an
- * {@link dev.nationsforge.network.packet.S2CNationsDataPacket} arrives.
+ * Singleton client-side cache of the nations data received from the server.
+ * Replaced wholesale by an
+ * {@link dev.nationsforge.network.packet.S2CNationsDataPacket} snapshot and
+ * patched incrementally by the delta packets in between.
+ *
+ * Only the local nation and the nation open in the Browse tab are held in full
+ * detail; every other nation is a summary (see {@link Nation#isSummary()}).
  */
 public class ClientNationData {
 
     private static final Map<UUID, Nation> nations = new LinkedHashMap<>();
-    private static final Map<UUID, UUID> playerNationMap = new HashMap<>();
+    /** The local player's nation, or null if they have none. */
+    private static UUID localNationId = null;
+    /** {@code nations.get(localNationId)}, resolved once per change. */
+    @Nullable
+    private static Nation localNation = null;
+    /**
+     * The local player's invite index: nations with a pending invite out to
+     * them. Server-pushed, so it needs no scan of every nation's invite set.
+     */
+    private static final Set<UUID> invitedBy = new LinkedHashSet<>();
+    /** Nation the Browse tab asked the server to send in full detail. */
+    private static UUID inspectedNation = null;
     /** Pending diplomacy requests for the local player's nation (server-pushed). */
     private static final List<DiplomacyRequest> pendingRequests = new ArrayList<>();
     /** UUID of the local player (set on world join). */
     private static UUID localPlayerId = null;
+    /** nation UUID → last applied revision. */
+    private static final Map<UUID, Integer> revisions = new HashMap<>();
+    /** Sync sequence number of the data currently held; -1 until the first snapshot. */
+    private static int syncSeq = -1;
+    /** True while a resync has been requested and deltas must be ignored. */
+    private static boolean awaitingSnapshot = true;
+    /** Top of the server's leaderboard (see {@link NationLeaderboard}). */
+    private static List<NationLeaderboard.Entry> leaderboardEntries = List.of();
+    /** Number of ranked nations on the server. */
+    private static int leaderboardTotal = 0;
+    /** Rank of the local player's nation, 0 if none. */
+    private static int ownLeaderboardRank = 0;
+    /** Bumped on every change to the cached data; see {@link #getVersion()}. */
+    private static int version = 0;
+
+    // ── Sorted views (rebuilt lazily after a change, see #ensureViews) ───────────
+    private static final Comparator<Nation> BY_SCORE =
+            Comparator.comparingLong(Nation::getScore).reversed();
+    private static final Comparator<Nation> BY_NAME =
+            Comparator.comparing(Nation::getName, String.CASE_INSENSITIVE_ORDER);
+    private static int viewsVersion = -1;
+    private static List<Nation> byInviteThenScore = List.of();
+    private static List<Nation> foreignByName = List.of();
+    private static List<Nation> inviting = List.of();
 
     private ClientNationData() {
     }
@@ -31,41 +71,133 @@ public class ClientNationData {
     // ── Called from packet handler
     // ────────────────────────────────────────────────
 
-    public static void receive(CompoundTag root) {
+    public static void receive(int seq, int[] nationRevisions, List<Nation> received,
+            @Nullable UUID ownNation, List<UUID> invites) {
         nations.clear();
-        playerNationMap.clear();
+        revisions.clear();
+        invitedBy.clear();
+        syncSeq = seq;
+        awaitingSnapshot = false;
 
-        ListTag list = root.getList("nations", Tag.TAG_COMPOUND);
-        for (int i = 0; i < list.size(); i++) {
-            Nation n = Nation.fromNBT(list.getCompound(i));
+        for (int i = 0; i < received.size(); i++) {
+            Nation n = received.get(i);
             nations.put(n.getId(), n);
+            revisions.put(n.getId(), nationRevisions[i]);
         }
+        localNationId = ownNation;
+        invitedBy.addAll(invites);
+        changed();
+    }
+
+    public static void applyNationChanged(int seq, int revision, Nation n) {
+        if (!acceptDelta(seq))
+            return;
+        Nation existing = nations.get(n.getId());
+        Integer known = revisions.get(n.getId());
+        // Same revision is still accepted when the detail tier changed
+        if (existing != null && known != null && known >= revision
+                && existing.isSummary() == n.isSummary())
+            return;
+        revisions.put(n.getId(), revision);
+        nations.put(n.getId(), n);
+        changed();
+    }
+
+    public static void applyNationRemoved(int seq, UUID nationId) {
+        if (!acceptDelta(seq))
+            return;
+        nations.remove(nationId);
+        revisions.remove(nationId);
+        invitedBy.remove(nationId);
+        changed();
+    }
+
+    public static void applyPlayerNation(int seq, @Nullable UUID nationId) {
+        if (!acceptDelta(seq))
+            return;
+        localNationId = nationId;
+        changed();
+    }
+
+    public static void applyInvites(int seq, List<UUID> nationIds) {
+        if (!acceptDelta(seq))
+            return;
+        invitedBy.clear();
+        invitedBy.addAll(nationIds);
+        changed();
+    }
 
-        CompoundTag pnMap = root.getCompound("playerNation");
-        for (String key : pnMap.getAllKeys()) {
-            try {
-                UUID playerId = UUID.fromString(key);
-                UUID nationId = pnMap.getUUID(key);
-                playerNationMap.put(playerId, nationId);
-            } catch (Exception ignored) {
-            }
+    /**
+     * Deltas must arrive strictly in order. On a gap, ask the server for a
+     * fresh snapshot and drop everything until it arrives.
+     */
+    private static boolean acceptDelta(int seq) {
+        if (awaitingSnapshot)
+            return false;
+        if (seq != syncSeq + 1) {
+            awaitingSnapshot = true;
+            PacketHandler.sendToServer(new C2SRequestNationSyncPacket());
+            return false;
         }
+        syncSeq = seq;
+        return true;
+    }
+
+    /** Forget everything — called when leaving a world/server. */
+    public static void clear() {
+        nations.clear();
+        localNationId = null;
+        invitedBy.clear();
+        inspectedNation = null;
+        pendingRequests.clear();
+        revisions.clear();
+        syncSeq = -1;
+        awaitingSnapshot = true;
+        localPlayerId = null;
+        leaderboardEntries = List.of();
+        leaderboardTotal = 0;
+        ownLeaderboardRank = 0;
+        FlagStackCache.clear();
+        FlagAtlas.clear();
+        changed();
+    }
+
+    /**
+     * Ask the server for full detail on a foreign nation (Browse tab), or
+     * release it with {@code null}. Only sends when the choice changes.
+     */
+    public static void setInspectedNation(@Nullable UUID nationId) {
+        if (Objects.equals(inspectedNation, nationId))
+            return;
+        inspectedNation = nationId;
+        PacketHandler.sendToServer(new C2SInspectNationPacket(nationId));
     }
 
     public static void setLocalPlayer(UUID id) {
+        if (Objects.equals(localPlayerId, id))
+            return;
         localPlayerId = id;
+        changed();
+    }
+
+    private static void changed() {
+        version++;
+        localNation = localNationId == null ? null : nations.get(localNationId);
+    }
+
+    /**
+     * Changes whenever the cached data does. Per-frame renderers compare it
+     * with the value they last built from and rebuild only on a mismatch.
+     */
+    public static int getVersion() {
+        return version;
     }
 
     // ── Queries ──────────────────────────────────────────────────────────────────
 
     @Nullable
     public static Nation getLocalNation() {
-        if (localPlayerId == null)
-            return null;
-        UUID nationId = playerNationMap.get(localPlayerId);
-        if (nationId == null)
-            return null;
-        return nations.get(nationId);
+        return localNation;
     }
 
     @Nullable
@@ -85,22 +217,15 @@ public class ClientNationData {
         return nations.get(id);
     }
 
-    /** Returns nations that have sent a pending invite to the local player. */
+    /** Returns nations that have sent a pending invite to the local player (immutable). */
     public static List<Nation> getPendingInvites() {
-        if (localPlayerId == null)
-            return List.of();
-        List<Nation> result = new ArrayList<>();
-        for (Nation n : nations.values()) {
-            if (n.hasInvite(localPlayerId))
-                result.add(n);
-        }
-        return result;
+        ensureViews();
+        return inviting;
     }
 
-    @Nullable
-    public static Nation getNationOfPlayer(UUID playerId) {
-        UUID nationId = playerNationMap.get(playerId);
-        return nationId == null ? null : nations.get(nationId);
+    /** True if the given nation has a pending invite out to the local player. */
+    public static boolean hasInviteFrom(UUID nationId) {
+        return invitedBy.contains(nationId);
     }
 
     public static RelationType getRelationWithLocal(UUID otherNationId) {
@@ -118,11 +243,70 @@ public class ClientNationData {
         return localPlayerId;
     }
 
-    /** Sorted by score descending (leaderboard). */
-    public static List<Nation> getLeaderboard() {
+    // ── Sorted views ─────────────────────────────────────────────────────────────
+    // Immutable lists built at most once per change to the data, so panels can
+    // call these every frame without copying or sorting.
+
+    /** Nations with an invite out to the local player first, then by score descending (Browse tab). */
+    public static List<Nation> getNationsByInviteThenScore() {
+        ensureViews();
+        return byInviteThenScore;
+    }
+
+    /** Every nation except the local player's, by name (Diplomacy tab). */
+    public static List<Nation> getForeignNationsByName() {
+        ensureViews();
+        return foreignByName;
+    }
+
+    private static void ensureViews() {
+        if (viewsVersion == version)
+            return;
+        viewsVersion = version;
+
         List<Nation> list = new ArrayList<>(nations.values());
-        list.sort(Comparator.comparingLong(Nation::getScore).reversed());
-        return list;
+        list.sort(BY_SCORE);
+        // Stable sort keeps score order within each group
+        list.sort(Comparator.comparingInt((Nation n) -> invitedBy.contains(n.getId()) ? 0 : 1));
+        byInviteThenScore = Collections.unmodifiableList(list);
+
+        list = new ArrayList<>(nations.values());
+        if (localNationId != null)
+            list.removeIf(n -> n.getId().equals(localNationId));
+        list.sort(BY_NAME);
+        foreignByName = Collections.unmodifiableList(list);
+
+        list = new ArrayList<>(invitedBy.size());
+        for (UUID id : invitedBy) {
+            Nation n = nations.get(id);
+            if (n != null)
+                list.add(n);
+        }
+        inviting = Collections.unmodifiableList(list);
+    }
+
+    // ── Leaderboard ──────────────────────────────────────────────────────────────
+
+    /** Called from {@link dev.nationsforge.network.packet.S2CLeaderboardPacket}. */
+    public static void setLeaderboard(List<NationLeaderboard.Entry> top, int total, int ownRank) {
+        leaderboardEntries = List.copyOf(top);
+        leaderboardTotal = total;
+        ownLeaderboardRank = ownRank;
+        changed();
+    }
+
+    /** Top of the leaderboard as sent by the server, with scores and rank movements. */
+    public static List<NationLeaderboard.Entry> getLeaderboardEntries() {
+        return leaderboardEntries;
+    }
+
+    public static int getLeaderboardTotal() {
+        return leaderboardTotal;
+    }
+
+    /** 1-based rank of the local player's nation, or 0 if they have none. */
+    public static int getOwnLeaderboardRank() {
+        return ownLeaderboardRank;
     }
 
     // ── Diplomacy requests ───────────────────────────────────────────────────────
@@ -0,0 +1,182 @@
+package dev.nationsforge.client;
+
+import com.mojang.blaze3d.platform.NativeImage;
+import dev.nationsforge.NationsForge;
+import dev.nationsforge.nation.NationFlag;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.gui.GuiGraphics;
+import net.minecraft.client.renderer.texture.DynamicTexture;
+import net.minecraft.core.Holder;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.packs.resources.Resource;
+import net.minecraft.world.level.block.entity.BannerPattern;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Flat flag images for nation lists, rasterised once into one dynamic texture.
+ *
+ * Each distinct flag ({@link NationFlag#contentHash()}) gets a
+ * {@value #FLAG_W}×{@value #FLAG_H} slot, painted on the CPU from the vanilla
+ * banner pattern masks ({@code textures/entity/banner/*.png}, front face only)
+ * tinted with {@link NationFlag#DYE_COLORS_RGB}. Drawing a flag is then a single
+ * blit instead of a banner item render. When all slots are taken the least
+ * recently drawn flag is evicted, so flags of disbanded nations age out on
+ * their own. Render thread only; cleared when leaving a world.
+ */
+public final class FlagAtlas {
+
+    /** Slot size: the banner front face in the 64×64 banner texture. */
+    public static final int FLAG_W = 20;
+    public static final int FLAG_H = 40;
+
+    private static final int SIZE = 256;
+    private static final int COLS = SIZE / FLAG_W;
+    private static final int ROWS = SIZE / FLAG_H;
+    private static final ResourceLocation LOCATION = new ResourceLocation(NationsForge.MOD_ID, "flag_atlas");
+
+    @Nullable
+    private static DynamicTexture texture = null;
+    /** Flag hash → slot index, in access order so the first entry is least recently drawn. */
+    private static final LinkedHashMap<Long, Integer> slots = new LinkedHashMap<>(16, 0.75f, true);
+    private static final ArrayDeque<Integer> freeSlots = new ArrayDeque<>();
+    /** Pattern code → mask image; a null value means the mask could not be loaded. */
+    private static final Map<String, NativeImage> masks = new HashMap<>();
+    /** True when slots were painted since the last upload. */
+    private static boolean dirty = false;
+
+    private FlagAtlas() {
+    }
+
+    /** Draws the flag scaled to {@code w}×{@code h} at ({@code x}, {@code y}). */
+    public static void blit(GuiGraphics gfx, NationFlag flag, int x, int y, int w, int h) {
+        int slot = slotFor(flag);
+        if (dirty) {
+            texture.upload();
+            dirty = false;
+        }
+        int u = (slot % COLS) * FLAG_W;
+        int v = (slot / COLS) * FLAG_H;
+        gfx.blit(LOCATION, x, y, w, h, u, v, FLAG_W, FLAG_H, SIZE, SIZE);
+    }
+
+    /** Releases the texture and masks — called when leaving a world. */
+    public static void clear() {
+        if (texture != null) {
+            Minecraft.getInstance().getTextureManager().release(LOCATION);
+            texture = null;
+        }
+        slots.clear();
+        freeSlots.clear();
+        for (NativeImage mask : masks.values())
+            if (mask != null)
+                mask.close();
+        masks.clear();
+        dirty = false;
+    }
+
+    // ── Slots ────────────────────────────────────────────────────────────────────
+
+    private static int slotFor(NationFlag flag) {
+        if (texture == null) {
+            texture = new DynamicTexture(SIZE, SIZE, true);
+            Minecraft.getInstance().getTextureManager().register(LOCATION, texture);
+            for (int i = 0; i < COLS * ROWS; i++)
+                freeSlots.add(i);
+        }
+
+        long key = flag.contentHash();
+        Integer slot = slots.get(key);
+        if (slot != null)
+            return slot;
+
+        slot = freeSlots.poll();
+        if (slot == null) {
+            Iterator<Map.Entry<Long, Integer>> eldest = slots.entrySet().iterator();
+            slot = eldest.next().getValue();
+            eldest.remove();
+        }
+        paint(flag, slot);
+        slots.put(key, slot);
+        dirty = true;
+        return slot;
+    }
+
+    // ── Rasterising ──────────────────────────────────────────────────────────────
+
+    private static void paint(NationFlag flag, int slot) {
+        NativeImage atlas = texture.getPixels();
+        int ox = (slot % COLS) * FLAG_W;
+        int oy = (slot / COLS) * FLAG_H;
+        for (int y = 0; y < FLAG_H; y++)
+            for (int x = 0; x < FLAG_W; x++)
+                atlas.setPixelRGBA(ox + x, oy + y, 0);
+
+        layer(atlas, ox, oy, mask("b"), flag.getBaseColorId());
+        for (NationFlag.Layer layer : flag.getLayers())
+            layer(atlas, ox, oy, mask(layer.patternCode), layer.colorId);
+    }
+
+    /** Alpha-blends one tinted pattern mask over the slot, as the banner renderer does. */
+    private static void layer(NativeImage atlas, int ox, int oy, @Nullable NativeImage mask, int colorId) {
+        if (mask == null)
+            return;
+        int rgb = NationFlag.DYE_COLORS_RGB[colorId & 0xF];
+        int tr = rgb >> 16 & 0xFF, tg = rgb >> 8 & 0xFF, tb = rgb & 0xFF;
+        int mw = mask.getWidth(), mh = mask.getHeight();
+
+        for (int y = 0; y < FLAG_H; y++) {
+            for (int x = 0; x < FLAG_W; x++) {
+                // Front face starts at (1, 1) of the 64×64 texture; scaled for HD packs
+                int src = mask.getPixelRGBA((1 + x) * mw / 64, (1 + y) * mh / 64);
+                int a = NativeImage.getA(src);
+                if (a == 0)
+                    continue;
+                int lum = NativeImage.getR(src);
+                int dst = atlas.getPixelRGBA(ox + x, oy + y);
+                int r = blend(NativeImage.getR(dst), lum * tr / 255, a);
+                int g = blend(NativeImage.getG(dst), lum * tg / 255, a);
+                int b = blend(NativeImage.getB(dst), lum * tb / 255, a);
+                int outA = a + NativeImage.getA(dst) * (255 - a) / 255;
+                atlas.setPixelRGBA(ox + x, oy + y, NativeImage.combine(outA, b, g, r));
+            }
+        }
+    }
+
+    private static int blend(int dst, int src, int alpha) {
+        return (src * alpha + dst * (255 - alpha)) / 255;
+    }
+
+    @Nullable
+    private static NativeImage mask(String patternCode) {
+        if (masks.containsKey(patternCode))
+            return masks.get(patternCode);
+
+        NativeImage image = null;
+        Holder<BannerPattern> pattern = BannerPattern.byHash(patternCode);
+        if (pattern != null && pattern.unwrapKey().isPresent()) {
+            ResourceLocation id = pattern.unwrapKey().get().location();
+            ResourceLocation file = new ResourceLocation(id.getNamespace(),
+                    "textures/entity/banner/" + id.getPath() + ".png");
+            Optional<Resource> resource = Minecraft.getInstance().getResourceManager().getResource(file);
+            if (resource.isPresent()) {
+                try (InputStream in = resource.get().open()) {
+                    image = NativeImage.read(in);
+                } catch (IOException e) {
+                    NationsForge.LOGGER.warn("[Dominion/Flags] Could not read banner mask {}: {}",
+                            file, e.getMessage());
+                }
+            }
+        }
+        masks.put(patternCode, image);
+        return image;
+    }
+}
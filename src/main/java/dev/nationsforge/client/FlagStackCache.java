@@ -0,0 +1,39 @@
+package dev.nationsforge.client;
+
+import dev.nationsforge.nation.NationFlag;
+import net.minecraft.world.item.ItemStack;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Client-wide banner stacks keyed by {@link NationFlag#contentHash()}.
+ *
+ * Every sync packet decodes fresh {@link NationFlag} instances, so the per-flag
+ * memo in {@link NationFlag#getBannerStack()} alone would be rebuilt after each
+ * update. Keying by content lets a nation's stack survive re-syncs and lets
+ * identical flags (common among bot nations) share one stack. Cleared when
+ * leaving a world.
+ */
+public final class FlagStackCache {
+
+    private static final Map<Long, ItemStack> stacks = new HashMap<>();
+
+    private FlagStackCache() {
+    }
+
+    /** The banner stack for this flag's appearance. Callers must not modify it. */
+    public static ItemStack get(NationFlag flag) {
+        long key = flag.contentHash();
+        ItemStack stack = stacks.get(key);
+        if (stack == null) {
+            stack = flag.getBannerStack();
+            stacks.put(key, stack);
+        }
+        return stack;
+    }
+
+    public static void clear() {
+        stacks.clear();
+    }
+}
@@ -2,11 +2,14 @@ package dev.nationsforge.client;
 
 import dev.nationsforge.client.ClientNationData;
 import dev.nationsforge.nation.Nation;
+import dev.nationsforge.nation.NationFlag;
 import dev.nationsforge.nation.NationPowerCalculator;
 import dev.nationsforge.nation.NationRank;
 import dev.nationsforge.nation.RelationType;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.gui.GuiGraphics;
+import net.minecraft.network.chat.Component;
+import net.minecraft.util.FormattedCharSequence;
 import net.minecraftforge.api.distmarker.Dist;
 import net.minecraftforge.client.event.RenderGuiOverlayEvent;
 import net.minecraftforge.client.gui.overlay.VanillaGuiOverlay;
@@ -17,17 +20,47 @@ import net.minecraftforge.fml.common.Mod;
  * Renders a compact nations status badge in the top-right corner of the HUD.
  *
  * ┌─────────────────────┐
- * │ [NTG] Nation Name │
+ * │ [NTG] Nation Name ⚑│
  * │ Rank: General │
  * │ ⚔ At war: 2 │
  * │ ♦ Allies: 1 │
  * └─────────────────────┘
+ *
+ * The badge's text and size are built into a {@link Model} only when
+ * {@link ClientNationData#getVersion()} changes, so a frame just draws the
+ * cached lines.
  */
 @Mod.EventBusSubscriber(modid = dev.nationsforge.NationsForge.MOD_ID, bus = Mod.EventBusSubscriber.Bus.FORGE, value = Dist.CLIENT)
 public class NationHudOverlay {
 
     private static final int PAD = 4;
     private static final int LINE = 10;
+    private static final int PANEL_W = 130;
+    /** Flag drawn in the top-right corner of the badge, beside the first two lines. */
+    private static final int FLAG_W = 7;
+    private static final int FLAG_H = 14;
+
+    /** Precomputed badge contents; {@code lines} is empty when there is nothing to show. */
+    private static final class Model {
+        final FormattedCharSequence[] lines;
+        final int[] colours;
+        final int accent;
+        final NationFlag flag;
+        final int panelH;
+
+        Model(FormattedCharSequence[] lines, int[] colours, int accent, NationFlag flag) {
+            this.lines = lines;
+            this.colours = colours;
+            this.accent = accent;
+            this.flag = flag;
+            this.panelH = PAD * 2 + lines.length * LINE + (lines.length - 1) * 2;
+        }
+    }
+
+    private static final Model EMPTY = new Model(new FormattedCharSequence[0], new int[0], 0, null);
+
+    private static Model model = EMPTY;
+    private static int modelVersion = -1;
 
     @SubscribeEvent
     public static void onRenderOverlay(RenderGuiOverlayEvent.Post event) {
@@ -38,27 +71,49 @@ public class NationHudOverlay {
         if (mc.player == null || mc.options.hideGui)
             return;
 
-        // Set local player if not already set
-        ClientNationData.setLocalPlayer(mc.player.getUUID());
-
-        Nation nation = ClientNationData.getLocalNation();
-        if (nation == null)
+        if (modelVersion != ClientNationData.getVersion()) {
+            modelVersion = ClientNationData.getVersion();
+            model = build();
+        }
+        Model m = model;
+        if (m.lines.length == 0)
             return;
 
-        NationRank rank = ClientNationData.getLocalRank();
         GuiGraphics gfx = event.getGuiGraphics();
         var font = mc.font;
 
         int screenW = mc.getWindow().getGuiScaledWidth();
-        int panelW = 130;
-        int px = screenW - panelW - 4;
+        int px = screenW - PANEL_W - 4;
         int py = 4;
+        int panelH = m.panelH;
+
+        // Background
+        gfx.fill(px - PAD, py - PAD, px + PANEL_W, py + panelH, 0xB0_101418);
+        // Border
+        gfx.fill(px - PAD, py - PAD, px + PANEL_W, py - PAD + 1, 0xFF_2A4060);
+        gfx.fill(px - PAD, py + panelH - 1, px + PANEL_W, py + panelH, 0xFF_2A4060);
+        gfx.fill(px - PAD, py - PAD, px - PAD + 1, py + panelH, 0xFF_2A4060);
+        gfx.fill(px + PANEL_W - 1, py - PAD, px + PANEL_W, py + panelH, 0xFF_2A4060);
+
+        // Nation colour accent bar (left edge)
+        gfx.fill(px - PAD, py - PAD, px - PAD + 3, py + panelH, m.accent);
+
+        FlagAtlas.blit(gfx, m.flag, px + PANEL_W - FLAG_W - 4, py, FLAG_W, FLAG_H);
+
+        for (int row = 0; row < m.lines.length; row++)
+            gfx.drawString(font, m.lines[row], px, py + row * (LINE + 2), m.colours[row], true);
+    }
+
+    /** Lays out the badge for the current client data. */
+    private static Model build() {
+        Nation nation = ClientNationData.getLocalNation();
+        if (nation == null)
+            return EMPTY;
+        NationRank rank = ClientNationData.getLocalRank();
 
         // Count wars and allies
-        long wars = nation.getRelations().values().stream()
-                .filter(r -> r.getType() == RelationType.WAR).count();
-        long allies = nation.getRelations().values().stream()
-                .filter(r -> r.getType() == RelationType.ALLIANCE).count();
+        long wars = nation.countRelations(RelationType.WAR);
+        long allies = nation.countRelations(RelationType.ALLIANCE);
 
         // Power tier
         NationPowerCalculator.Tier tier = NationPowerCalculator.getTier(nation.getPower());
@@ -66,58 +121,48 @@ public class NationHudOverlay {
 
         int lines = 1 + 1 + (rank != null ? 1 : 0) + (territory > 0 ? 1 : 0) + (wars > 0 ? 1 : 0)
                 + (allies > 0 ? 1 : 0);
-        int panelH = PAD * 2 + lines * LINE + (lines - 1) * 2;
-
-        // Background
-        gfx.fill(px - PAD, py - PAD, px + panelW, py + panelH, 0xB0_101418);
-        // Border
-        gfx.fill(px - PAD, py - PAD, px + panelW, py - PAD + 1, 0xFF_2A4060);
-        gfx.fill(px - PAD, py + panelH - 1, px + panelW, py + panelH, 0xFF_2A4060);
-        gfx.fill(px - PAD, py - PAD, px - PAD + 1, py + panelH, 0xFF_2A4060);
-        gfx.fill(px + panelW - 1, py - PAD, px + panelW, py + panelH, 0xFF_2A4060);
-
-        // Nation colour accent bar (left edge)
-        int accent = 0xFF_000000 | (nation.getColour() & 0xFFFFFF);
-        gfx.fill(px - PAD, py - PAD, px - PAD + 3, py + panelH, accent);
-
+        FormattedCharSequence[] text = new FormattedCharSequence[lines];
+        int[] colours = new int[lines];
         int row = 0;
 
         // Nation tag + name
-        int tagCol = nation.getColour() & 0xFFFFFF;
-        gfx.drawString(font, "§7[" + nation.getTag() + "] §f" + nation.getName(),
-                px, py + row * (LINE + 2), tagCol, true);
-        row++;
+        // Leave room for the flag beside the name
+        text[row] = line(Minecraft.getInstance().font.plainSubstrByWidth(
+                "§7[" + nation.getTag() + "] §f" + nation.getName(), PANEL_W - FLAG_W - 8));
+        colours[row++] = nation.getColour() & 0xFFFFFF;
 
         // Power tier badge
-        gfx.drawString(font, "✦ " + tier.displayName,
-                px, py + row * (LINE + 2), tier.colour & 0xFFFFFF, true);
-        row++;
+        text[row] = line("✦ " + tier.displayName);
+        colours[row++] = tier.colour & 0xFFFFFF;
 
         // Rank
         if (rank != null) {
-            gfx.drawString(font, "§7" + rank.displayName, px, py + row * (LINE + 2),
-                    rank.colour & 0xFFFFFF, true);
-            row++;
+            text[row] = line("§7" + rank.displayName);
+            colours[row++] = rank.colour & 0xFFFFFF;
         }
 
         // Territory
         if (territory > 0) {
-            gfx.drawString(font, "§7⬛ " + territory + " chunk(s)", px, py + row * (LINE + 2),
-                    0xFF_AAAAAA, true);
-            row++;
+            text[row] = line("§7⬛ " + territory + " chunk(s)");
+            colours[row++] = 0xFF_AAAAAA;
         }
 
         // Wars
         if (wars > 0) {
-            gfx.drawString(font, "§c⚔ At war: " + wars, px, py + row * (LINE + 2),
-                    0xFF_FF4444, true);
-            row++;
+            text[row] = line("§c⚔ At war: " + wars);
+            colours[row++] = 0xFF_FF4444;
         }
 
         // Allies
         if (allies > 0) {
-            gfx.drawString(font, "§a♦ Allies: " + allies, px, py + row * (LINE + 2),
-                    0xFF_44BB66, true);
+            text[row] = line("§a♦ Allies: " + allies);
+            colours[row] = 0xFF_44BB66;
         }
+
+        return new Model(text, colours, 0xFF_000000 | (nation.getColour() & 0xFFFFFF), nation.getFlag());
+    }
+
+    private static FormattedCharSequence line(String s) {
+        return Component.literal(s).getVisualOrderText();
     }
 }
@@ -2,6 +2,8 @@ package dev.nationsforge.client.gui;
 
 import com.mojang.blaze3d.vertex.PoseStack;
 import dev.nationsforge.client.ClientNationData;
+import dev.nationsforge.client.FlagAtlas;
+import dev.nationsforge.client.FlagStackCache;
 import dev.nationsforge.nation.Nation;
 import dev.nationsforge.nation.NationFlag;
 import dev.nationsforge.nation.NationPowerCalculator;
@@ -28,6 +30,7 @@ public class BrowsePanel extends NationPanel {
     // Width of the right detail panel
     private static final int DETAIL_W = 164;
 
+    private final VirtualList list = new VirtualList(ROW_H, 2);
     private UUID selectedNation = null;
     private Button btnJoin;
     private Button btnCreate;
@@ -38,6 +41,8 @@ public class BrowsePanel extends NationPanel {
 
     @Override
     public void addWidgets() {
+        if (selectedNation != null)
+            ClientNationData.setInspectedNation(selectedNation);
         boolean hasNation = ClientNationData.localPlayerHasNation();
         if (!hasNation) {
             btnCreate = add(Button.builder(Component.literal("§a+ Create Nation"),
@@ -47,6 +52,13 @@ public class BrowsePanel extends NationPanel {
         rebuildJoinButton();
     }
 
+    @Override
+    public void removeWidgets() {
+        super.removeWidgets();
+        // Other tabs don't need the selected nation in full detail
+        ClientNationData.setInspectedNation(null);
+    }
+
     private void rebuildJoinButton() {
         if (btnJoin != null) {
             screen.removeWidget(btnJoin);
@@ -58,7 +70,7 @@ public class BrowsePanel extends NationPanel {
         Nation n = ClientNationData.getNationById(selectedNation);
         if (n == null)
             return;
-        boolean canJoin = n.isOpenRecruitment() || n.hasInvite(ClientNationData.getLocalPlayerId());
+        boolean canJoin = n.isOpenRecruitment() || ClientNationData.hasInviteFrom(n.getId());
         if (!canJoin)
             return;
         btnJoin = add(Button.builder(Component.literal("§aJoin"),
@@ -89,28 +101,23 @@ public class BrowsePanel extends NationPanel {
         }
 
         // ── Nation list ───────────────────────────────────────────────────────────
-        List<Nation> allNations = new ArrayList<>(ClientNationData.getAllNations());
-        UUID myId = ClientNationData.getLocalPlayerId();
-        allNations.sort(Comparator
-                .comparingInt((Nation n) -> n.hasInvite(myId) ? 0 : 1)
-                .thenComparingLong(n -> -n.getScore()));
+        List<Nation> allNations = ClientNationData.getNationsByInviteThenScore();
 
-        int startY = py;
-        int maxScroll = Math.max(0, allNations.size() * ROW_H - (h - 40));
-        scrollOffset = Math.min(scrollOffset, maxScroll);
+        Nation myNation = ClientNationData.getLocalNation();
+        UUID myNationId = myNation != null ? myNation.getId() : null;
+        int count = allNations.size();
+        list.setBounds(px, py, listW, y + h - 6 - py);
+        scrollOffset = list.clampScroll(scrollOffset, count);
+        int hoveredRow = list.indexAt(mouseX, mouseY, scrollOffset, count);
 
-        for (int i = 0; i < allNations.size(); i++) {
+        list.enableScissor(gfx);
+        for (int i = list.firstVisible(scrollOffset); i <= list.lastVisible(scrollOffset, count); i++) {
             Nation nation = allNations.get(i);
-            int rowY = startY + i * ROW_H - scrollOffset;
-            if (rowY + ROW_H < startY || rowY > startY + h - 30)
-                continue;
+            int rowY = list.rowY(i, scrollOffset);
 
             boolean sel = nation.getId().equals(selectedNation);
-            boolean isMyNation = nation.getId().equals(
-                    ClientNationData.getLocalNation() != null
-                            ? ClientNationData.getLocalNation().getId()
-                            : null);
-            boolean hasInvite = nation.hasInvite(myId);
+            boolean isMyNation = nation.getId().equals(myNationId);
+            boolean hasInvite = ClientNationData.hasInviteFrom(nation.getId());
             int rgb24 = nation.getColour() & 0xFFFFFF;
 
             // Row background
@@ -120,9 +127,8 @@ public class BrowsePanel extends NationPanel {
             // Colour stripe (left edge)
             gfx.fill(px, rowY, px + 3, rowY + ROW_H - 2, 0xFF_000000 | rgb24);
 
-            // Colour swatch circle-ish (14×14)
-            gfx.fill(px + 6, rowY + 5, px + 20, rowY + 19, 0xFF_000000 | rgb24);
-            gfx.fill(px + 6, rowY + 5, px + 20, rowY + 6, 0x40_FFFFFF);
+            // Flag (8×16, from the flag atlas)
+            FlagAtlas.blit(gfx, nation.getFlag(), px + 9, rowY + 3, 8, 16);
 
             // Bot badge
             if (nation.isBot()) {
@@ -151,10 +157,11 @@ public class BrowsePanel extends NationPanel {
             }
 
             // Hover highlight
-            if (mouseX >= px && mouseX <= px + listW && mouseY >= rowY && mouseY <= rowY + ROW_H - 2) {
+            if (i == hoveredRow) {
                 gfx.fill(px, rowY, px + listW, rowY + ROW_H - 2, 0x22_FFFFFF);
             }
         }
+        list.disableScissor(gfx);
 
         if (allNations.isEmpty()) {
             gfx.drawCenteredString(font, "§7No nations yet. Create the first one!",
@@ -197,7 +204,7 @@ public class BrowsePanel extends NationPanel {
         int flagX = rx + 4;
         int flagY = ry + headerH + 4;
         if (flag != null) {
-            var flagStack = flag.buildBannerStack();
+            var flagStack = FlagStackCache.get(flag);
             PoseStack pose = gfx.pose();
             pose.pushPose();
             pose.translate(flagX, flagY, 0);
@@ -250,10 +257,10 @@ public class BrowsePanel extends NationPanel {
         statsY += lineH;
 
         // ── Relations strip ───────────────────────────────────────────────────────
-        long wars = n.getRelations().values().stream().filter(r -> r.getType() == RelationType.WAR).count();
-        long allies = n.getRelations().values().stream().filter(r -> r.getType() == RelationType.ALLIANCE).count();
-        long trades = n.getRelations().values().stream().filter(r -> r.getType() == RelationType.TRADE_PACT).count();
-        long rivals = n.getRelations().values().stream().filter(r -> r.getType() == RelationType.RIVALRY).count();
+        long wars = n.countRelations(RelationType.WAR);
+        long allies = n.countRelations(RelationType.ALLIANCE);
+        long trades = n.countRelations(RelationType.TRADE_PACT);
+        long rivals = n.countRelations(RelationType.RIVALRY);
 
         statsY += 3;
         gfx.fill(rx + 4, statsY, rx + rw - 4, statsY + 1, NationGuiHelper.COL_BORDER);
@@ -304,23 +311,14 @@ public class BrowsePanel extends NationPanel {
     // ─────────────────────────────────────────────────────────────────────────────
 
     public void onClick(double mouseX, double mouseY) {
-        List<Nation> allNations = new ArrayList<>(ClientNationData.getAllNations());
-        int px = x + 8;
-        int startY = y + 6;
-        int listW = w - DETAIL_W - 6;
-        List<Nation> invited = ClientNationData.getPendingInvites();
-        if (!invited.isEmpty())
-            startY += 20;
-
-        for (int i = 0; i < allNations.size(); i++) {
-            int rowY = startY + i * ROW_H - scrollOffset;
-            if (mouseY >= rowY && mouseY <= rowY + ROW_H - 2
-                    && mouseX >= px && mouseX <= px + listW) {
-                UUID id = allNations.get(i).getId();
-                selectedNation = id.equals(selectedNation) ? null : id;
-                rebuildJoinButton();
-                return;
-            }
-        }
+        // Same order and list bounds as the last render()
+        List<Nation> allNations = ClientNationData.getNationsByInviteThenScore();
+        int i = list.indexAt(mouseX, mouseY, scrollOffset, allNations.size());
+        if (i < 0)
+            return;
+        UUID id = allNations.get(i).getId();
+        selectedNation = id.equals(selectedNation) ? null : id;
+        ClientNationData.setInspectedNation(selectedNation);
+        rebuildJoinButton();
     }
 }
@@ -40,6 +40,7 @@ public class DiplomacyPanel extends NationPanel {
     private static final int BOTTOM_H = 100; // reserved for incoming requests
 
     // State
+    private final VirtualList list = new VirtualList(ROW_H, 2);
     private UUID selectedNation = null;
     private final List<Button> proposeButtons  = new ArrayList<>();
     private final List<Button> requestButtons  = new ArrayList<>();
@@ -187,23 +188,23 @@ public class DiplomacyPanel extends NationPanel {
         int headerY = y + 4;
         gfx.drawString(font, "§7Nations", px, headerY, NationGuiHelper.COL_TEXT_DIM, false);
 
-        List<Nation> all = new ArrayList<>(ClientNationData.getAllNations());
-        all.removeIf(n -> n.getId().equals(myNation.getId()));
+        List<Nation> all = ClientNationData.getForeignNationsByName();
 
         int startY  = y + 16;
-        int maxScroll = Math.max(0, all.size() * ROW_H - (listH - 18));
-        scrollOffset = Math.min(scrollOffset, maxScroll);
+        int count = all.size();
+        list.setBounds(px - 2, startY, listW - 2, listH - 18);
+        scrollOffset = list.clampScroll(scrollOffset, count);
+        int hoveredRow = list.indexAt(mouseX, mouseY, scrollOffset, count);
 
         // Clip rendering to list area
-        for (int i = 0; i < all.size(); i++) {
+        list.enableScissor(gfx);
+        for (int i = list.firstVisible(scrollOffset); i <= list.lastVisible(scrollOffset, count); i++) {
             Nation other = all.get(i);
-            int rowY = startY + i * ROW_H - scrollOffset;
-            if (rowY + ROW_H < startY || rowY > startY + listH - 18) continue;
+            int rowY = list.rowY(i, scrollOffset);
 
             RelationType rel = myNation.getRelationWith(other.getId());
             boolean sel = other.getId().equals(selectedNation);
-            boolean hovered = mouseX >= px && mouseX <= px + listW - 4
-                    && mouseY >= rowY && mouseY <= rowY + ROW_H - 2;
+            boolean hovered = i == hoveredRow;
 
             // Row background
             int bg = sel    ? 0x40_FFFFFF
@@ -232,6 +233,7 @@ public class DiplomacyPanel extends NationPanel {
             gfx.drawString(font, relLabel, px + listW - 10 - labelW, rowY + 6,
                     rel.colour & 0xFFFFFF, false);
         }
+        list.disableScissor(gfx);
     }
 
     private void renderRightPanel(GuiGraphics gfx, net.minecraft.client.gui.Font font,
@@ -341,24 +343,12 @@ public class DiplomacyPanel extends NationPanel {
         Nation myNation = ClientNationData.getLocalNation();
         if (myNation == null) return;
 
-        List<Nation> all = new ArrayList<>(ClientNationData.getAllNations());
-        all.removeIf(n -> n.getId().equals(myNation.getId()));
-
-        int listW  = w - RIGHT_W - 4;
-        int listH  = h - BOTTOM_H;
-        int startY = y + 16;
-        int px = x + 6;
-
-        for (int i = 0; i < all.size(); i++) {
-            int rowY = startY + i * ROW_H - scrollOffset;
-            if (mouseY >= rowY && mouseY <= rowY + ROW_H - 2
-                    && mouseX >= px - 2 && mouseX <= px + listW - 4
-                    && rowY >= startY && rowY < y + listH) {
-                UUID id = all.get(i).getId();
-                selectedNation = id.equals(selectedNation) ? null : id;
-                rebuildPropose();
-                return;
-            }
-        }
+        List<Nation> all = ClientNationData.getForeignNationsByName();
+        int i = list.indexAt(mouseX, mouseY, scrollOffset, all.size());
+        if (i < 0)
+            return;
+        UUID id = all.get(i).getId();
+        selectedNation = id.equals(selectedNation) ? null : id;
+        rebuildPropose();
     }
 }
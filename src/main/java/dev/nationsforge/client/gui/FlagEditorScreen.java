@@ -179,7 +179,7 @@ public class FlagEditorScreen extends Screen {
 
     /** Renders the banner ItemStack at 3× scale. */
     private void renderBannerPreview(GuiGraphics gfx, int x, int y) {
-        var stack = flag.buildBannerStack();
+        var stack = flag.getBannerStack();
         var pose = gfx.pose();
         pose.pushPose();
         pose.translate(x + 3, y, 200f);
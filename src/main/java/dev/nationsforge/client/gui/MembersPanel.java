@@ -22,6 +22,11 @@ public class MembersPanel extends NationPanel {
 
     private static final int ROW_H = 22;
 
+    private final VirtualList list = new VirtualList(ROW_H, 2);
+    /** Member ids in display order, indexable for the virtual list; see {@link #memberIds}. */
+    private List<UUID> memberIds = List.of();
+    private int memberIdsVersion = -1;
+
     // Selected member
     private UUID selectedMember = null;
     private final List<Button> actionButtons = new ArrayList<>();
@@ -122,24 +127,22 @@ public class MembersPanel extends NationPanel {
 
         // List area
         int listH = h - 30;
-        int maxScroll = Math.max(0, nation.getMemberCount() * ROW_H - listH);
-        scrollOffset = Math.min(scrollOffset, maxScroll);
-
-        // Clip / scissor would be ideal; we approximate with a draw bounds check
-        int startY = py;
-        int row = 0;
-        for (Map.Entry<UUID, NationRank> entry : nation.getMembers().entrySet()) {
-            int rowY = startY + row * ROW_H - scrollOffset;
-            row++;
-            if (rowY + ROW_H < startY || rowY > startY + listH)
-                continue;
-
-            UUID uid = entry.getKey();
-            NationRank rank = entry.getValue();
+        List<UUID> ids = memberIds(nation);
+        int count = ids.size();
+        list.setBounds(px, py, w - 130, listH);
+        scrollOffset = list.clampScroll(scrollOffset, count);
+        int hoveredRow = list.indexAt(mouseX, mouseY, scrollOffset, count);
+
+        list.enableScissor(gfx);
+        for (int i = list.firstVisible(scrollOffset); i <= list.lastVisible(scrollOffset, count); i++) {
+            int rowY = list.rowY(i, scrollOffset);
+
+            UUID uid = ids.get(i);
+            NationRank rank = nation.getRank(uid);
             boolean selected = uid.equals(selectedMember);
             boolean isMe = uid.equals(ClientNationData.getLocalPlayerId());
 
-            int rowBg = selected ? NationGuiHelper.COL_PANEL : (row % 2 == 0 ? 0x18_FFFFFF : 0x00_000000);
+            int rowBg = selected ? NationGuiHelper.COL_PANEL : (i % 2 == 1 ? 0x18_FFFFFF : 0x00_000000);
             gfx.fill(px, rowY, px + w - 130, rowY + ROW_H - 2, rowBg);
 
             // Rank colour badge
@@ -152,13 +155,12 @@ public class MembersPanel extends NationPanel {
             gfx.drawString(font, name, px + 8, rowY + 7, NationGuiHelper.COL_TEXT, false);
             gfx.drawString(font, rank.displayName, px + 180, rowY + 7, rCol, false);
 
-            // Click detection
-            if (mouseX >= px && mouseX <= px + w - 130
-                    && mouseY >= rowY && mouseY <= rowY + ROW_H - 2
-                    && !isMe) {
+            // Hover highlight (own row is not selectable)
+            if (i == hoveredRow && !isMe) {
                 gfx.fill(px, rowY, px + w - 130, rowY + ROW_H - 2, 0x30_FFFFFF);
             }
         }
+        list.disableScissor(gfx);
 
         // Right-side: selected member info
         if (selectedMember != null) {
@@ -181,21 +183,24 @@ public class MembersPanel extends NationPanel {
         Nation nation = ClientNationData.getLocalNation();
         if (nation == null)
             return;
-        int px = x + 8;
-        int startY = y + 20;
-        int row = 0;
-        for (UUID uid : nation.getMembers().keySet()) {
-            int rowY = startY + row * ROW_H - scrollOffset;
-            row++;
-            if (mouseY >= rowY && mouseY <= rowY + ROW_H - 2
-                    && mouseX >= px && mouseX <= px + w - 130) {
-                if (!uid.equals(ClientNationData.getLocalPlayerId())) {
-                    selectedMember = uid.equals(selectedMember) ? null : uid;
-                    rebuildActionButtons();
-                }
-                return;
-            }
+        List<UUID> ids = memberIds(nation);
+        int i = list.indexAt(mouseX, mouseY, scrollOffset, ids.size());
+        if (i < 0)
+            return;
+        UUID uid = ids.get(i);
+        if (!uid.equals(ClientNationData.getLocalPlayerId())) {
+            selectedMember = uid.equals(selectedMember) ? null : uid;
+            rebuildActionButtons();
+        }
+    }
+
+    /** The nation's member ids in map order, copied once per client data change. */
+    private List<UUID> memberIds(Nation nation) {
+        if (memberIdsVersion != ClientNationData.getVersion()) {
+            memberIdsVersion = ClientNationData.getVersion();
+            memberIds = List.copyOf(nation.getMembers().keySet());
         }
+        return memberIds;
     }
 
     private String getPlayerName(UUID uid) {
@@ -176,6 +176,12 @@ public class NationsScreen extends Screen {
         return false;
     }
 
+    @Override
+    public void removed() {
+        super.removed();
+        ClientNationData.setInspectedNation(null);
+    }
+
     // ── Expose Minecraft internals to sub-panels
     // ──────────────────────────────────
 
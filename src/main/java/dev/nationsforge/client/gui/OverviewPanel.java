@@ -1,8 +1,11 @@
 package dev.nationsforge.client.gui;
 
 import dev.nationsforge.client.ClientNationData;
+import dev.nationsforge.client.FlagAtlas;
+import dev.nationsforge.client.FlagStackCache;
 import dev.nationsforge.nation.Nation;
 import dev.nationsforge.nation.NationFlag;
+import dev.nationsforge.nation.NationLeaderboard;
 import dev.nationsforge.nation.NationPowerCalculator;
 import dev.nationsforge.nation.NationRank;
 import dev.nationsforge.nation.RelationType;
@@ -133,7 +136,7 @@ public class OverviewPanel extends NationPanel {
         // Nation flag icon — rendered as a standard 16×16 GUI item below the tier label
         NationFlag flag = nation.getFlag();
         if (flag != null) {
-            var flagStack = flag.buildBannerStack();
+            var flagStack = FlagStackCache.get(flag);
             gfx.renderItem(flagStack, x + w - 22, py + 16);
         }
 
@@ -180,10 +183,8 @@ public class OverviewPanel extends NationPanel {
         py += 4;
 
         // ── Active wars / alliances ───────────────────────────────────────────────
-        long wars = nation.getRelations().values().stream()
-                .filter(r -> r.getType() == RelationType.WAR).count();
-        long allies = nation.getRelations().values().stream()
-                .filter(r -> r.getType() == RelationType.ALLIANCE).count();
+        long wars = nation.countRelations(RelationType.WAR);
+        long allies = nation.countRelations(RelationType.ALLIANCE);
         if (wars > 0) {
             gfx.drawString(font, "§c⚔ " + wars + " active war(s) — check Diplomacy!", px, py, 0xFF_FF4444, false);
             py += 12;
@@ -200,20 +201,37 @@ public class OverviewPanel extends NationPanel {
     // ─────────────────────────────────────────────────────────────────────────────
 
     private void drawLeaderboard(GuiGraphics gfx, net.minecraft.client.gui.Font font, int lx, int ly) {
-        List<Nation> board = ClientNationData.getLeaderboard();
+        // Server-ranked; entries whose nation has not been synced yet are skipped
+        List<NationLeaderboard.Entry> board = ClientNationData.getLeaderboardEntries();
         gfx.drawString(font, "§7── Leaderboard ──", lx, ly, NationGuiHelper.COL_TEXT_DIM, false);
-        int limit = Math.min(5, board.size());
-        for (int i = 0; i < limit; i++) {
-            Nation n = board.get(i);
-            NationPowerCalculator.Tier tier = NationPowerCalculator.getTier(n.getPower());
+        int row = 0;
+        for (int i = 0; i < board.size() && row < 5; i++) {
+            NationLeaderboard.Entry e = board.get(i);
+            Nation n = ClientNationData.getNationById(e.nationId());
+            if (n == null)
+                continue;
+            int rowY = ly + 12 + row * 13;
+            NationPowerCalculator.Tier tier = NationPowerCalculator.getTier(e.score());
             int rgb = n.getColour() & 0xFFFFFF;
             String line = (i + 1) + ". [" + n.getTag() + "] " + n.getName();
-            gfx.drawString(font, line, lx + 4, ly + 12 + i * 13, rgb, false);
-            gfx.drawString(font, "§7" + NationGuiHelper.abbreviate(n.getPower()),
-                    lx + 130, ly + 12 + i * 13, tier.colour & 0xFFFFFF, false);
+            FlagAtlas.blit(gfx, n.getFlag(), lx + 4, rowY - 1, 5, 10);
+            gfx.drawString(font, line, lx + 12, rowY, rgb, false);
+            gfx.drawString(font, "§7" + NationGuiHelper.abbreviate(e.score()),
+                    lx + 130, rowY, tier.colour & 0xFFFFFF, false);
+            if (e.rankDelta() > 0)
+                gfx.drawString(font, "§a▲" + e.rankDelta(), lx + 162, rowY, NationGuiHelper.COL_SUCCESS, false);
+            else if (e.rankDelta() < 0)
+                gfx.drawString(font, "§c▼" + -e.rankDelta(), lx + 162, rowY, 0xFF_FF4444, false);
+            row++;
         }
-        if (board.isEmpty()) {
+        if (row == 0) {
             gfx.drawString(font, "§7No nations yet.", lx + 4, ly + 12, NationGuiHelper.COL_TEXT_DIM, false);
+            return;
+        }
+        int own = ClientNationData.getOwnLeaderboardRank();
+        if (own > 0) {
+            gfx.drawString(font, "§7Your nation: §f#" + own + " §7of " + ClientNationData.getLeaderboardTotal(),
+                    lx + 4, ly + 14 + row * 13, NationGuiHelper.COL_TEXT_DIM, false);
         }
     }
 }
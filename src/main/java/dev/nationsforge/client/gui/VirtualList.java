@@ -0,0 +1,80 @@
+package dev.nationsforge.client.gui;
+
+import net.minecraft.client.gui.GuiGraphics;
+
+/**
+ * Geometry for a scrolling list of fixed-height rows inside a panel.
+ *
+ * Panels keep their own row data and scroll offset; this works out which rows
+ * are visible straight from the offset and row height, clips drawing to the
+ * viewport, and maps a mouse position to a row index by division, so the cost
+ * of a frame or a click does not grow with the number of rows. Typical use:
+ *
+ * <pre>
+ * list.setBounds(px, startY, listW, listH);
+ * scrollOffset = list.clampScroll(scrollOffset, rows.size());
+ * int hovered = list.indexAt(mouseX, mouseY, scrollOffset, rows.size());
+ * list.enableScissor(gfx);
+ * for (int i = list.firstVisible(scrollOffset); i &lt;= list.lastVisible(scrollOffset, rows.size()); i++) {
+ *     int rowY = list.rowY(i, scrollOffset);
+ *     ...
+ * }
+ * list.disableScissor(gfx);
+ * </pre>
+ */
+public class VirtualList {
+
+    private final int rowH;
+    /** Height of the gap below each row that does not count as part of it for clicks. */
+    private final int gap;
+    private int x, y, w, h;
+
+    public VirtualList(int rowH, int gap) {
+        this.rowH = rowH;
+        this.gap = gap;
+    }
+
+    /** Sets the viewport; call from render before the other methods. */
+    public void setBounds(int x, int y, int w, int h) {
+        this.x = x;
+        this.y = y;
+        this.w = w;
+        this.h = Math.max(0, h);
+    }
+
+    public int clampScroll(int scroll, int count) {
+        return Math.max(0, Math.min(scroll, count * rowH - h));
+    }
+
+    public int firstVisible(int scroll) {
+        return scroll / rowH;
+    }
+
+    /** Index of the last row at least partly in view; less than {@link #firstVisible} when there is none. */
+    public int lastVisible(int scroll, int count) {
+        return Math.min(count - 1, (scroll + h - 1) / rowH);
+    }
+
+    public int rowY(int index, int scroll) {
+        return y + index * rowH - scroll;
+    }
+
+    /** The row under the mouse, or -1 if the mouse is outside the viewport, in a gap or past the end. */
+    public int indexAt(double mouseX, double mouseY, int scroll, int count) {
+        if (mouseX < x || mouseX > x + w || mouseY < y || mouseY >= y + h)
+            return -1;
+        int offset = (int) (mouseY - y) + scroll;
+        int index = offset / rowH;
+        if (index >= count || offset % rowH > rowH - gap)
+            return -1;
+        return index;
+    }
+
+    public void enableScissor(GuiGraphics gfx) {
+        gfx.enableScissor(x, y, x + w, y + h);
+    }
+
+    public void disableScissor(GuiGraphics gfx) {
+        gfx.disableScissor();
+    }
+}
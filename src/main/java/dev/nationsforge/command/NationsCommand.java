@@ -3,7 +3,9 @@ package dev.nationsforge.command;
 import com.mojang.brigadier.CommandDispatcher;
 import com.mojang.brigadier.arguments.IntegerArgumentType;
 import com.mojang.brigadier.arguments.StringArgumentType;
+import com.mojang.brigadier.suggestion.SuggestionProvider;
 import dev.nationsforge.integration.ftbteams.FTBTeamsHelper;
+import dev.nationsforge.nation.NationLeaderboard;
 import dev.nationsforge.nation.NationManager;
 import dev.nationsforge.nation.NationRank;
 import dev.nationsforge.nation.NationSavedData;
@@ -41,6 +43,17 @@ import java.util.UUID;
 @Mod.EventBusSubscriber(modid = dev.nationsforge.NationsForge.MOD_ID, bus = Mod.EventBusSubscriber.Bus.FORGE)
 public class NationsCommand {
 
+        /** Completes existing nation names, backed by the name prefix index. */
+        private static final SuggestionProvider<CommandSourceStack> NATION_NAMES = (ctx, builder) -> {
+                String typed = builder.getRemaining();
+                if (typed.startsWith("\""))
+                        typed = typed.substring(1);
+                for (String name : NationManager.getData(ctx.getSource().getServer())
+                                .getNationNamesStartingWith(typed))
+                        builder.suggest(StringArgumentType.escapeIfRequired(name));
+                return builder.buildFuture();
+        };
+
         @SubscribeEvent
         public static void onRegisterCommands(RegisterCommandsEvent event) {
                 CommandDispatcher<CommandSourceStack> dispatcher = event.getDispatcher();
@@ -50,7 +63,7 @@ public class NationsCommand {
                                                 .executes(ctx -> listNations(ctx.getSource())))
 
                                 .then(Commands.literal("info")
-                                                .then(Commands.argument("name", StringArgumentType.string())
+                                                .then(Commands.argument("name", StringArgumentType.string()).suggests(NATION_NAMES)
                                                                 .executes(ctx -> nationInfo(ctx.getSource(),
                                                                                 StringArgumentType.getString(ctx,
                                                                                                 "name")))))
@@ -86,7 +99,7 @@ public class NationsCommand {
 
                                 .then(Commands.literal("disband")
                                                 .requires(s -> s.hasPermission(2))
-                                                .then(Commands.argument("name", StringArgumentType.string())
+                                                .then(Commands.argument("name", StringArgumentType.string()).suggests(NATION_NAMES)
                                                                 .executes(ctx -> {
                                                                         String name = StringArgumentType.getString(ctx,
                                                                                         "name");
@@ -119,7 +132,7 @@ public class NationsCommand {
                                                 .requires(s -> s.hasPermission(2))
                                                 .then(Commands.argument("player", EntityArgument.player())
                                                                 .then(Commands.argument("nation",
-                                                                                StringArgumentType.string())
+                                                                                StringArgumentType.string()).suggests(NATION_NAMES)
                                                                                 .executes(ctx -> {
                                                                                         ServerPlayer sp = EntityArgument
                                                                                                         .getPlayer(ctx, "player");
@@ -133,6 +146,7 @@ public class NationsCommand {
                                                                                                                         nation -> {
                                                                                                                                 nation.addInvite(
                                                                                                                                                 sp.getUUID()); // force-invite
+                                                                                                                                data.logInvite(nation, sp.getUUID());
                                                                                                                                 var result = NationManager
                                                                                                                                                 .joinNation(ctx.getSource()
                                                                                                                                                                 .getServer(),
@@ -198,7 +212,7 @@ public class NationsCommand {
                                                                                                                                         nation.setRank(sp
                                                                                                                                                         .getUUID(),
                                                                                                                                                         rank);
-                                                                                                                                        data.setDirty();
+                                                                                                                                        data.logRank(nation, sp.getUUID());
                                                                                                                                         NationManager.broadcastAll(
                                                                                                                                                         ctx.getSource().getServer());
                                                                                                                                         ctx.getSource()
@@ -220,9 +234,9 @@ public class NationsCommand {
 
                                 .then(Commands.literal("setrelation")
                                                 .requires(s -> s.hasPermission(2))
-                                                .then(Commands.argument("nationA", StringArgumentType.string())
+                                                .then(Commands.argument("nationA", StringArgumentType.string()).suggests(NATION_NAMES)
                                                                 .then(Commands.argument("nationB",
-                                                                                StringArgumentType.string())
+                                                                                StringArgumentType.string()).suggests(NATION_NAMES)
                                                                                 .then(Commands.argument("type",
                                                                                                 StringArgumentType
                                                                                                                 .word())
@@ -259,7 +273,7 @@ public class NationsCommand {
                                                                                                                                 optA.get().getId(),
                                                                                                                                 type,
                                                                                                                                 "admin");
-                                                                                                                data.setDirty();
+                                                                                                                data.logRelation(optA.get(), optB.get());
                                                                                                                 NationManager.broadcastAll(
                                                                                                                                 ctx.getSource().getServer());
                                                                                                                 ctx.getSource().sendSuccess(
@@ -276,7 +290,7 @@ public class NationsCommand {
 
                                 .then(Commands.literal("score")
                                                 .requires(s -> s.hasPermission(2))
-                                                .then(Commands.argument("nation", StringArgumentType.string())
+                                                .then(Commands.argument("nation", StringArgumentType.string()).suggests(NATION_NAMES)
                                                                 .then(Commands.argument("amount",
                                                                                 IntegerArgumentType.integer())
                                                                                 .executes(ctx -> {
@@ -291,7 +305,8 @@ public class NationsCommand {
                                                                                                         .ifPresentOrElse(
                                                                                                                         n -> {
                                                                                                                                 n.addScore(amount);
-                                                                                                                                data.setDirty();
+                                                                                                                                NationLeaderboard.update(n);
+                                                                                                                                data.logScore(n);
                                                                                                                                 NationManager.broadcastAll(
                                                                                                                                                 ctx.getSource().getServer());
                                                                                                                                 ctx.getSource().sendSuccess(
@@ -308,7 +323,7 @@ public class NationsCommand {
                                 .then(Commands.literal("reload")
                                                 .requires(s -> s.hasPermission(2))
                                                 .executes(ctx -> {
-                                                        NationManager.broadcastAll(ctx.getSource().getServer());
+                                                        NationManager.broadcastNow(ctx.getSource().getServer());
                                                         ctx.getSource().sendSuccess(() -> Component.literal(
                                                                         "§aSynced nation data to all players."),
                                                                         true);
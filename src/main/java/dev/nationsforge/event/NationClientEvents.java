@@ -5,6 +5,7 @@ import dev.nationsforge.client.gui.NationsScreen;
 import dev.nationsforge.client.NationKeybinds;
 import net.minecraft.client.Minecraft;
 import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.client.event.ClientPlayerNetworkEvent;
 import net.minecraftforge.client.event.InputEvent;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
 import net.minecraftforge.fml.common.Mod;
@@ -25,4 +26,16 @@ public class NationClientEvents {
             mc.setScreen(new NationsScreen());
         }
     }
+
+    /** Record the local player once per connection rather than on every lookup. */
+    @SubscribeEvent
+    public static void onLoggingIn(ClientPlayerNetworkEvent.LoggingIn event) {
+        ClientNationData.setLocalPlayer(event.getPlayer().getUUID());
+    }
+
+    /** Drop cached nation data so the next server starts from a fresh snapshot. */
+    @SubscribeEvent
+    public static void onLoggingOut(ClientPlayerNetworkEvent.LoggingOut event) {
+        ClientNationData.clear();
+    }
 }
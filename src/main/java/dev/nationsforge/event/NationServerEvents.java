@@ -1,12 +1,20 @@
 package dev.nationsforge.event;
 
+import dev.nationsforge.bot.BotTerritoryClaimer;
 import dev.nationsforge.bot.WorldBotGenerator;
+import dev.nationsforge.nation.NationLeaderboard;
 import dev.nationsforge.nation.NationManager;
+import dev.nationsforge.nation.NationPersistence;
+import dev.nationsforge.nation.NationPresence;
 import dev.nationsforge.nation.NationSavedData;
+import dev.nationsforge.network.NationSyncScheduler;
+import dev.nationsforge.network.NationSyncTracker;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraftforge.event.entity.player.PlayerEvent;
 import net.minecraftforge.event.server.ServerStartedEvent;
+import net.minecraftforge.event.server.ServerStoppedEvent;
+import net.minecraftforge.event.server.ServerStoppingEvent;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
 import net.minecraftforge.fml.common.Mod;
 
@@ -17,10 +25,32 @@ public class NationServerEvents {
     @SubscribeEvent
     public static void onServerStarted(ServerStartedEvent event) {
         MinecraftServer server = event.getServer();
+        NationSyncTracker.reset();
         NationSavedData data = NationManager.getData(server);
+        NationLeaderboard.rebuild(data.getAllNations());
+        BotTerritoryClaimer.resume(data);
         WorldBotGenerator.generate(server, data);
         // Sync newly generated bots to any already-connected players
-        NationManager.broadcastAll(server);
+        NationManager.broadcastNow(server);
+    }
+
+    /**
+     * Drop delta-sync state so the next world (singleplayer) starts clean, and
+     * wait for the final save to reach disk.
+     */
+    @SubscribeEvent
+    public static void onServerStopping(ServerStoppingEvent event) {
+        // Fold the journal into the final save
+        NationManager.getData(event.getServer()).requestCompaction();
+    }
+
+    @SubscribeEvent
+    public static void onServerStopped(ServerStoppedEvent event) {
+        NationPersistence.awaitPending();
+        NationSyncScheduler.reset();
+        NationSyncTracker.reset();
+        NationLeaderboard.reset();
+        NationPresence.reset();
     }
 
     /** When a player logs in, push the full nation data snapshot to them. */
@@ -28,16 +58,29 @@ public class NationServerEvents {
     public static void onPlayerLogin(PlayerEvent.PlayerLoggedInEvent event) {
         if (!(event.getEntity() instanceof ServerPlayer sp))
             return;
+        NationPresence.login(sp, NationManager.getData(sp.getServer()).getPlayerNationMap().get(sp.getUUID()));
         NationManager.syncToPlayer(sp.getServer(), sp);
         // Also send any pending diplomacy requests for their nation
         NationManager.syncDiplomacyToPlayer(sp.getServer(), sp);
     }
 
-    /** When a player respawns (dimension change), re-sync their data. */
+    /** Drop the player's sync view and presence; the next login starts from a snapshot. */
+    @SubscribeEvent
+    public static void onPlayerLogout(PlayerEvent.PlayerLoggedOutEvent event) {
+        NationPresence.logout(event.getEntity().getUUID());
+        NationSyncTracker.forget(event.getEntity().getUUID());
+        NationLeaderboard.forget(event.getEntity().getUUID());
+    }
+
+    /**
+     * When a player respawns (dimension change), re-sync their data. Respawning
+     * replaces the ServerPlayer object, so the presence index is refreshed too.
+     */
     @SubscribeEvent
     public static void onPlayerRespawn(PlayerEvent.PlayerRespawnEvent event) {
         if (!(event.getEntity() instanceof ServerPlayer sp))
             return;
+        NationPresence.login(sp, NationManager.getData(sp.getServer()).getPlayerNationMap().get(sp.getUUID()));
         NationManager.syncToPlayer(sp.getServer(), sp);
     }
 }
@@ -1,30 +1,50 @@
 package dev.nationsforge.event;
 
+import dev.nationsforge.NationsConfig;
 import dev.nationsforge.NationsForge;
 import dev.nationsforge.bot.BotNationAI;
 import dev.nationsforge.integration.ftbchunks.FTBChunksHelper;
 import dev.nationsforge.nation.Nation;
 import dev.nationsforge.nation.NationManager;
 import dev.nationsforge.nation.NationPowerCalculator;
+import dev.nationsforge.nation.NationPresence;
 import dev.nationsforge.nation.NationSavedData;
 import dev.nationsforge.nation.RelationType;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Random;
+import java.util.UUID;
+import java.util.function.Predicate;
 import net.minecraft.server.MinecraftServer;
 import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.event.server.ServerStoppedEvent;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
 import net.minecraftforge.fml.common.Mod;
 
 /**
  * Fires on the Forge server tick event.
  *
- * Every {@link #TICK_INTERVAL} server ticks (≈ 5 minutes):
+ * Every {@link #TICK_INTERVAL} server ticks (≈ 5 minutes) a cycle starts:
  * 1. Counts FTB Chunks claimed by each nation's server team.
- * 2. Recalculates each nation's power (NationPowerCalculator).
- * 3. Broadcasts the updated snapshot to all online players.
+ * 2. Pays passive income, journalled per nation (see {@link NationSavedData#logTreasury}).
+ * 3. Recalculates each nation's power (NationPowerCalculator).
+ * 4. Broadcasts the updated snapshot to all online players.
+ *
+ * The cycle is time-sliced: each server tick first continues the walk over
+ * the FTB claim list, then processes nations round-robin, until
+ * {@link NationsConfig#ECONOMY_TICK_BUDGET_MICROS} is spent (at least some
+ * progress every tick), so the work is spread over as many ticks as it needs
+ * instead of landing in a single one. Only copying the claim list's references
+ * at the start of the cycle happens in one tick. The broadcast goes out once
+ * the last nation of the cycle is done.
  *
  * This keeps territory and power values eventually-consistent without
  * requiring a claim event hook or FTB Chunks API at compile time.
+ *
+ * Separately, once a second, diplomacy requests past their time-to-live are
+ * expired (see {@link NationManager#expireDiplomacyRequests}).
  */
 @Mod.EventBusSubscriber(modid = NationsForge.MOD_ID, bus = Mod.EventBusSubscriber.Bus.FORGE)
 public class NationTickHandler {
@@ -42,55 +62,155 @@ public class NationTickHandler {
     /** Earned per active alliance per cycle. */
     public static final long INCOME_PER_ALLIANCE = 25L;
 
+    /** Diplomacy request expiry is swept once a second. */
+    private static final int EXPIRY_SWEEP_INTERVAL = 20;
+
     private static int tickCount = 0;
+    private static int expiryTickCount = 0;
     private static final Random rng = new Random();
 
+    // ── Current cycle ────────────────────────────────────────────────────────────
+    /** Nations still to process this cycle, in order; null when no cycle is running. */
+    private static List<UUID> cycle = null;
+    private static int cycleCursor = 0;
+    /** Claim walk still running for this cycle, or null once counted (or without FTB Chunks). */
+    private static FTBChunksHelper.ClaimCount claimCount = null;
+    /** FTB claim counts taken once per cycle, before any nation is processed. */
+    private static Map<UUID, Long> cycleClaims = Map.of();
+
     @SubscribeEvent
-    public static void onServerTick(TickEvent.ServerTickEvent event) {
+    public static void onServerTickExpireRequests(TickEvent.ServerTickEvent event) {
         if (event.phase != TickEvent.Phase.END)
             return;
-        if (++tickCount < TICK_INTERVAL)
+        if (++expiryTickCount < EXPIRY_SWEEP_INTERVAL)
+            return;
+        expiryTickCount = 0;
+
+        MinecraftServer server = net.minecraftforge.server.ServerLifecycleHooks.getCurrentServer();
+        if (server != null)
+            NationManager.expireDiplomacyRequests(server);
+    }
+
+    @SubscribeEvent
+    public static void onServerTick(TickEvent.ServerTickEvent event) {
+        if (event.phase != TickEvent.Phase.END)
             return;
+        if (++tickCount >= TICK_INTERVAL && cycle == null) {
+            tickCount = 0;
+            startCycle();
+        }
+        if (cycle != null)
+            runSlice();
+    }
+
+    @SubscribeEvent
+    public static void onServerStopped(ServerStoppedEvent event) {
+        cycle = null;
+        claimCount = null;
+        cycleClaims = Map.of();
         tickCount = 0;
+    }
 
+    private static void startCycle() {
         MinecraftServer server = net.minecraftforge.server.ServerLifecycleHooks.getCurrentServer();
         if (server == null)
             return;
+        NationSavedData data = NationManager.getData(server);
+        List<UUID> ids = new ArrayList<>(data.getAllNations().size());
+        for (Nation nation : data.getAllNations())
+            ids.add(nation.getId());
+        cycle = ids;
+        cycleCursor = 0;
+        // One pass over all claims, bucketed by team, instead of one per nation;
+        // walked under the same per-tick budget as the nations
+        claimCount = FTBChunksHelper.startClaimCount(server);
+        cycleClaims = Map.of();
+    }
 
+    /**
+     * Counts claims, then processes nations, until the per-tick budget is spent;
+     * finishes the cycle at the end.
+     */
+    private static void runSlice() {
+        MinecraftServer server = net.minecraftforge.server.ServerLifecycleHooks.getCurrentServer();
+        if (server == null)
+            return;
         NationSavedData data = NationManager.getData(server);
-        boolean changed = false;
-
-        for (Nation nation : data.getAllNations()) {
-            if (nation.isBot()) {
-                // Bot nations — fully managed by AI (income + diplomacy + expansion)
-                BotNationAI.tick(server, nation, data, rng);
-            } else {
-                // Player nations — update territory via FTB Chunks, then collect passive income
-                long chunks = FTBChunksHelper.countClaimedChunks(server, nation);
-                nation.setTerritory(chunks);
-
-                long online = nation.getMembers().keySet().stream()
-                        .filter(uid -> server.getPlayerList().getPlayer(uid) != null)
-                        .count();
-                long trades = nation.getRelations().values().stream()
-                        .filter(r -> r.getType() == RelationType.TRADE_PACT).count();
-                long allies = nation.getRelations().values().stream()
-                        .filter(r -> r.getType() == RelationType.ALLIANCE).count();
-
-                nation.addTreasury(online * INCOME_PER_ONLINE_MEMBER);
-                nation.addTreasury(nation.getTerritory() * INCOME_PER_CHUNK);
-                nation.addTreasury(trades * INCOME_PER_TRADE_PACT);
-                nation.addTreasury(allies * INCOME_PER_ALLIANCE);
-
-                NationPowerCalculator.recalculate(nation);
-            }
-            changed = true;
+        long deadline = System.nanoTime() + NationsConfig.ECONOMY_TICK_BUDGET_MICROS.get() * 1_000L;
+
+        if (claimCount != null) {
+            if (!claimCount.advance(deadline))
+                return; // continue next tick
+            cycleClaims = claimCount.result();
+            claimCount = null;
+            if (System.nanoTime() >= deadline)
+                return;
         }
 
-        if (changed) {
-            data.setDirty();
+        cycleCursor = processUntil(cycle, cycleCursor, deadline, id -> {
+            Nation nation = data.getNationById(id).orElse(null);
+            if (nation == null)
+                return false; // disbanded since the cycle started
+            processNation(server, data, nation);
+            return true;
+        });
+        if (cycleCursor < cycle.size())
+            return; // continue next tick
+
+        int total = cycle.size();
+        cycle = null;
+        cycleClaims = Map.of();
+        if (total > 0) {
+            // Income and bot changes are journalled as they happen; territory, power and
+            // score are derived and recomputed by the next cycle, so no full save here
             NationManager.broadcastAll(server);
-            NationsForge.LOGGER.debug("[Dominion] Tick: processed {} nations.", data.getAllNations().size());
+            NationsForge.LOGGER.debug("[Dominion] Tick: processed {} nations.", total);
+        }
+    }
+
+    /**
+     * Runs {@code step} on the cycle's nations from {@code cursor} until
+     * {@code deadlineNanos} ({@link System#nanoTime()}) passes, but always
+     * until at least one step did work. {@code step} returns false for a
+     * nation it skipped.
+     *
+     * @return the cursor to continue from; {@code ids.size()} once done
+     */
+    static int processUntil(List<UUID> ids, int cursor, long deadlineNanos, Predicate<UUID> step) {
+        int processed = 0;
+        while (cursor < ids.size()) {
+            if (processed > 0 && System.nanoTime() >= deadlineNanos)
+                break;
+            if (step.test(ids.get(cursor++)))
+                processed++;
+        }
+        return cursor;
+    }
+
+    private static void processNation(MinecraftServer server, NationSavedData data, Nation nation) {
+        if (nation.isBot()) {
+            // Bot nations — fully managed by AI (income + diplomacy + expansion)
+            BotNationAI.tick(server, nation, data, rng);
+        } else {
+            // Player nations — update territory via FTB Chunks, then collect passive income
+            long chunks = FTBChunksHelper.countClaimedChunks(server, nation, cycleClaims);
+            nation.setTerritory(chunks);
+
+            long online = NationPresence.onlineCount(nation.getId());
+            long trades = nation.countRelations(RelationType.TRADE_PACT);
+            long allies = nation.countRelations(RelationType.ALLIANCE);
+
+            // One call: a zero total leaves the nation untouched (no re-sync, no power recalc)
+            long income = online * INCOME_PER_ONLINE_MEMBER
+                    + nation.getTerritory() * INCOME_PER_CHUNK
+                    + trades * INCOME_PER_TRADE_PACT
+                    + allies * INCOME_PER_ALLIANCE;
+            if (income != 0) {
+                nation.addTreasury(income);
+                data.logTreasury(nation, income);
+            }
+
+            NationPowerCalculator.recalculate(nation);
         }
     }
 }
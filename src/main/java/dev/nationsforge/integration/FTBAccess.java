@@ -0,0 +1,321 @@
+package dev.nationsforge.integration;
+
+import dev.nationsforge.NationsForge;
+
+import javax.annotation.Nullable;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Shared accessor layer for the FTB Teams / FTB Chunks soft dependencies.
+ *
+ * Every FTB method we call is resolved once, in the static initialiser of a
+ * lazily loaded holder class, and bound into a {@code static final}
+ * {@link MethodHandle}. Because the handles are constants the JIT can inline
+ * through them, unlike {@link Method#invoke}, which re-checks access and boxes
+ * its arguments into an array on every call. The holders are only touched
+ * when FTB is installed, and a holder whose lookups fail reports itself
+ * unavailable instead of throwing, so one changed FTB internal does not take
+ * down the others.
+ *
+ * All handles are adapted to a generic {@code (Object...)Object} shape so the
+ * wrappers below can use {@code invokeExact}.
+ */
+public final class FTBAccess {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private FTBAccess() {
+    }
+
+    // ── FTB Teams public API ─────────────────────────────────────────────────────
+
+    private static final class TeamsApi {
+        static final boolean OK;
+        static final MethodHandle API;              // FTBTeamsAPI.api()
+        static final MethodHandle GET_MANAGER;      // API.getManager()
+        static final MethodHandle GET_TEAM_BY_NAME; // TeamManager.getTeamByName(String) → Optional<Team>
+        static final MethodHandle TEAM_ID;          // Team.getId()
+
+        static {
+            MethodHandle api = null, getManager = null, byName = null, teamId = null;
+            boolean ok = false;
+            try {
+                Method mApi = Class.forName("dev.ftb.mods.ftbteams.api.FTBTeamsAPI").getMethod("api");
+                Method mGetManager = mApi.getReturnType().getMethod("getManager");
+                api = bind(mApi);
+                getManager = bind(mGetManager);
+                byName = bind(mGetManager.getReturnType().getMethod("getTeamByName", String.class));
+                teamId = bind(Class.forName("dev.ftb.mods.ftbteams.api.Team").getMethod("getId"));
+                ok = true;
+            } catch (Throwable t) {
+                NationsForge.LOGGER.warn("[Dominion/FTBAccess] FTB Teams API unavailable: {}", t.toString());
+            }
+            OK = ok;
+            API = api;
+            GET_MANAGER = getManager;
+            GET_TEAM_BY_NAME = byName;
+            TEAM_ID = teamId;
+        }
+    }
+
+    // ── FTB Teams internals (server-team membership) ─────────────────────────────
+
+    private static final class TeamsInternals {
+        static final boolean OK;
+        static final Class<?> TEAM;                 // dev.ftb.mods.ftbteams.api.Team
+        static final MethodHandle INSTANCE;         // TeamManagerImpl.INSTANCE (field getter)
+        static final MethodHandle GET_TEAM_BY_NAME; // TeamManagerImpl.getTeamByName(String)
+        static final MethodHandle SYNC_TO_ALL;      // TeamManagerImpl.syncToAll(Team...)
+        static final MethodHandle ADD_MEMBER;       // AbstractTeamBase.addMember(UUID, TeamRank)
+        static final MethodHandle REMOVE_MEMBER;    // AbstractTeamBase.removeMember(UUID)
+        static final MethodHandle MARK_DIRTY;       // AbstractTeam.markDirty()
+        static final Object RANK_MEMBER;            // TeamRank.MEMBER
+
+        static {
+            Class<?> team = null;
+            MethodHandle instance = null, byName = null, sync = null, add = null, remove = null, dirty = null;
+            Object rank = null;
+            boolean ok = false;
+            try {
+                team = Class.forName("dev.ftb.mods.ftbteams.api.Team");
+                Class<?> tmClass = Class.forName("dev.ftb.mods.ftbteams.data.TeamManagerImpl");
+                Field fInstance = tmClass.getField("INSTANCE");
+                instance = LOOKUP.unreflectGetter(fInstance)
+                        .asType(MethodType.genericMethodType(0));
+                byName = bind(tmClass.getMethod("getTeamByName", String.class));
+                sync = bind(tmClass.getMethod("syncToAll", Array.newInstance(team, 0).getClass()));
+
+                @SuppressWarnings({ "unchecked", "rawtypes" })
+                Class<Enum> rankClass = (Class<Enum>) Class.forName("dev.ftb.mods.ftbteams.api.TeamRank");
+                @SuppressWarnings("unchecked")
+                Object member = Enum.valueOf(rankClass, "MEMBER");
+                rank = member;
+                // Our teams are all server teams; the methods live on its superclasses
+                Class<?> serverTeam = Class.forName("dev.ftb.mods.ftbteams.data.ServerTeam");
+                add = bind(findMethod(serverTeam, "addMember", UUID.class, rankClass));
+                remove = bind(findMethod(serverTeam, "removeMember", UUID.class));
+                dirty = bind(findMethod(serverTeam, "markDirty"));
+                ok = true;
+            } catch (Throwable t) {
+                NationsForge.LOGGER.warn("[Dominion/FTBAccess] FTB Teams internals unavailable: {}", t.toString());
+            }
+            OK = ok;
+            TEAM = team;
+            INSTANCE = instance;
+            GET_TEAM_BY_NAME = byName;
+            SYNC_TO_ALL = sync;
+            ADD_MEMBER = add;
+            REMOVE_MEMBER = remove;
+            MARK_DIRTY = dirty;
+            RANK_MEMBER = rank;
+        }
+    }
+
+    // ── FTB Chunks public API ────────────────────────────────────────────────────
+
+    private static final class Chunks {
+        static final boolean OK;
+        static final MethodHandle API;              // FTBChunksAPI.api()
+        static final MethodHandle GET_MANAGER;      // API.getManager() — NO ARGS
+        static final MethodHandle GET_ALL_CLAIMED;  // ClaimedChunkManager.getAllClaimedChunks()
+        static final MethodHandle GET_OR_CREATE;    // ClaimedChunkManager.getOrCreateData(Team)
+        static final MethodHandle CHUNK_TEAM_DATA;  // ClaimedChunk.getTeamData()
+        static final MethodHandle DATA_TEAM;        // ChunkTeamData.getTeam()
+        static final MethodHandle SET_EXTRA_CLAIM;  // ChunkTeamData.setExtraClaimChunks(int)
+        static final MethodHandle CLAIM;            // ChunkTeamData.claim(CSS, ChunkDimPos, boolean)
+        static final MethodHandle MARK_DIRTY;       // ChunkTeamData.markDirty()
+        static final MethodHandle NEW_CHUNK_POS;    // new ChunkDimPos(ResourceKey<Level>, int, int)
+
+        static {
+            MethodHandle api = null, getManager = null, all = null, getOrCreate = null, chunkData = null,
+                    dataTeam = null, extra = null, claim = null, dirty = null, newPos = null;
+            boolean ok = false;
+            try {
+                Class<?> team = Class.forName("dev.ftb.mods.ftbteams.api.Team");
+                Method mApi = Class.forName("dev.ftb.mods.ftbchunks.api.FTBChunksAPI").getMethod("api");
+                Method mGetManager = mApi.getReturnType().getMethod("getManager");
+                Class<?> manager = mGetManager.getReturnType();
+                Class<?> teamData = Class.forName("dev.ftb.mods.ftbchunks.api.ChunkTeamData");
+                Class<?> chunkPos = Class.forName("dev.ftb.mods.ftblibrary.math.ChunkDimPos");
+                api = bind(mApi);
+                getManager = bind(mGetManager);
+                all = bind(manager.getMethod("getAllClaimedChunks"));
+                getOrCreate = bind(manager.getMethod("getOrCreateData", team));
+                chunkData = bind(Class.forName("dev.ftb.mods.ftbchunks.api.ClaimedChunk").getMethod("getTeamData"));
+                dataTeam = bind(teamData.getMethod("getTeam"));
+                extra = bind(teamData.getMethod("setExtraClaimChunks", int.class));
+                claim = bind(teamData.getMethod("claim",
+                        net.minecraft.commands.CommandSourceStack.class, chunkPos, boolean.class));
+                dirty = bind(teamData.getMethod("markDirty"));
+                Constructor<?> ctor = chunkPos.getDeclaredConstructor(
+                        net.minecraft.resources.ResourceKey.class, int.class, int.class);
+                ctor.setAccessible(true);
+                newPos = LOOKUP.unreflectConstructor(ctor).asType(MethodType.genericMethodType(3));
+                ok = true;
+            } catch (Throwable t) {
+                NationsForge.LOGGER.warn("[Dominion/FTBAccess] FTB Chunks API unavailable: {}", t.toString());
+            }
+            OK = ok;
+            API = api;
+            GET_MANAGER = getManager;
+            GET_ALL_CLAIMED = all;
+            GET_OR_CREATE = getOrCreate;
+            CHUNK_TEAM_DATA = chunkData;
+            DATA_TEAM = dataTeam;
+            SET_EXTRA_CLAIM = extra;
+            CLAIM = claim;
+            MARK_DIRTY = dirty;
+            NEW_CHUNK_POS = newPos;
+        }
+    }
+
+    // ── Binding helpers ──────────────────────────────────────────────────────────
+
+    private static MethodHandle bind(Method m) throws IllegalAccessException {
+        if (m == null)
+            throw new IllegalAccessException("method not found");
+        try {
+            m.setAccessible(true);
+        } catch (RuntimeException ignored) {
+            // public API methods do not need it
+        }
+        MethodHandle h = LOOKUP.unreflect(m).asFixedArity();
+        return h.asType(MethodType.genericMethodType(h.type().parameterCount()));
+    }
+
+    /** Walk the class hierarchy to find the first matching declared method. */
+    @Nullable
+    private static Method findMethod(Class<?> clazz, String name, Class<?>... params) {
+        for (Class<?> c = clazz; c != null && c != Object.class; c = c.getSuperclass()) {
+            try {
+                return c.getDeclaredMethod(name, params);
+            } catch (NoSuchMethodException ignored) {
+            }
+        }
+        return null;
+    }
+
+    // ── FTB Teams ────────────────────────────────────────────────────────────────
+
+    public static boolean teamsApiAvailable() {
+        return TeamsApi.OK;
+    }
+
+    /** The team with the given short name via the public API, or null. */
+    @Nullable
+    public static Object findTeam(String name) throws Throwable {
+        Object manager = (Object) TeamsApi.GET_MANAGER.invokeExact((Object) TeamsApi.API.invokeExact());
+        if (manager == null)
+            return null;
+        Optional<?> team = (Optional<?>) (Object) TeamsApi.GET_TEAM_BY_NAME.invokeExact(manager, (Object) name);
+        return team == null ? null : team.orElse(null);
+    }
+
+    @Nullable
+    public static UUID teamId(Object team) throws Throwable {
+        return (UUID) (Object) TeamsApi.TEAM_ID.invokeExact(team);
+    }
+
+    public static boolean teamInternalsAvailable() {
+        return TeamsInternals.OK;
+    }
+
+    /**
+     * The team with the given short name, looked up on the live
+     * {@code TeamManagerImpl.INSTANCE} (re-read every call — safe across server
+     * restarts), or null.
+     */
+    @Nullable
+    public static Object findTeamInternal(String name) throws Throwable {
+        Object manager = (Object) TeamsInternals.INSTANCE.invokeExact();
+        if (manager == null)
+            return null;
+        Optional<?> team = (Optional<?>) (Object) TeamsInternals.GET_TEAM_BY_NAME.invokeExact(manager,
+                (Object) name);
+        return team == null ? null : team.orElse(null);
+    }
+
+    /** Adds a player as MEMBER, then marks the team dirty and syncs it to all clients. */
+    public static void addTeamMember(Object team, UUID playerId) throws Throwable {
+        Object ignored = (Object) TeamsInternals.ADD_MEMBER.invokeExact(team, (Object) playerId,
+                TeamsInternals.RANK_MEMBER);
+        markDirtyAndSync(team);
+    }
+
+    /** Removes a player, then marks the team dirty and syncs it to all clients. */
+    public static void removeTeamMember(Object team, UUID playerId) throws Throwable {
+        Object ignored = (Object) TeamsInternals.REMOVE_MEMBER.invokeExact(team, (Object) playerId);
+        markDirtyAndSync(team);
+    }
+
+    private static void markDirtyAndSync(Object team) throws Throwable {
+        Object ignored = (Object) TeamsInternals.MARK_DIRTY.invokeExact(team);
+        Object manager = (Object) TeamsInternals.INSTANCE.invokeExact();
+        if (manager == null)
+            return;
+        // syncToAll(Team... teams) — varargs == Team[]
+        Object arr = Array.newInstance(TeamsInternals.TEAM, 1);
+        Array.set(arr, 0, team);
+        ignored = (Object) TeamsInternals.SYNC_TO_ALL.invokeExact(manager, arr);
+    }
+
+    // ── FTB Chunks ───────────────────────────────────────────────────────────────
+
+    public static boolean chunksAvailable() {
+        return Chunks.OK;
+    }
+
+    /** The global ClaimedChunkManager (one for all dimensions), or null. */
+    @Nullable
+    public static Object chunkManager() throws Throwable {
+        return (Object) Chunks.GET_MANAGER.invokeExact((Object) Chunks.API.invokeExact());
+    }
+
+    public static Collection<?> allClaimedChunks(Object manager) throws Throwable {
+        return (Collection<?>) (Object) Chunks.GET_ALL_CLAIMED.invokeExact(manager);
+    }
+
+    @Nullable
+    public static Object chunkTeamData(Object claimedChunk) throws Throwable {
+        return (Object) Chunks.CHUNK_TEAM_DATA.invokeExact(claimedChunk);
+    }
+
+    @Nullable
+    public static Object teamOfTeamData(Object teamData) throws Throwable {
+        return (Object) Chunks.DATA_TEAM.invokeExact(teamData);
+    }
+
+    @Nullable
+    public static Object getOrCreateTeamData(Object manager, Object team) throws Throwable {
+        return (Object) Chunks.GET_OR_CREATE.invokeExact(manager, team);
+    }
+
+    public static void setExtraClaimChunks(Object teamData, int extra) throws Throwable {
+        Object ignored = (Object) Chunks.SET_EXTRA_CLAIM.invokeExact(teamData, (Object) extra);
+    }
+
+    /** Claims one chunk; does not mark the team data dirty (see {@link #markTeamDataDirty}). */
+    public static void claim(Object teamData, net.minecraft.commands.CommandSourceStack source, Object chunkPos)
+            throws Throwable {
+        Object ignored = (Object) Chunks.CLAIM.invokeExact(teamData, (Object) source, chunkPos, (Object) false);
+    }
+
+    public static void markTeamDataDirty(Object teamData) throws Throwable {
+        Object ignored = (Object) Chunks.MARK_DIRTY.invokeExact(teamData);
+    }
+
+    /** A new {@code ChunkDimPos}. */
+    public static Object chunkPos(net.minecraft.resources.ResourceKey<net.minecraft.world.level.Level> dimension,
+            int chunkX, int chunkZ) throws Throwable {
+        return (Object) Chunks.NEW_CHUNK_POS.invokeExact((Object) dimension, (Object) chunkX, (Object) chunkZ);
+    }
+}
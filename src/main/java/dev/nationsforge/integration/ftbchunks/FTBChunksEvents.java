@@ -0,0 +1,35 @@
+package dev.nationsforge.integration.ftbchunks;
+
+import dev.nationsforge.NationsForge;
+import dev.nationsforge.event.NationCreatedEvent;
+import dev.nationsforge.event.NationDisbandedEvent;
+import net.minecraftforge.event.server.ServerStoppedEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+
+/**
+ * Keeps {@link FTBChunksHelper}'s tag → FTB team cache in step with nation
+ * lifecycle events. Only touches our own caches, so it is safe to register
+ * whether or not FTB Chunks is installed.
+ */
+@Mod.EventBusSubscriber(modid = NationsForge.MOD_ID, bus = Mod.EventBusSubscriber.Bus.FORGE)
+public final class FTBChunksEvents {
+
+    private FTBChunksEvents() {
+    }
+
+    @SubscribeEvent
+    public static void onNationCreated(NationCreatedEvent event) {
+        FTBChunksHelper.invalidateTeamId(event.getNation().getTag());
+    }
+
+    @SubscribeEvent
+    public static void onNationDisbanded(NationDisbandedEvent event) {
+        FTBChunksHelper.invalidateTeamId(event.getNationTag());
+    }
+
+    @SubscribeEvent
+    public static void onServerStopped(ServerStoppedEvent event) {
+        FTBChunksHelper.clearTeamIds();
+    }
+}
@@ -1,11 +1,14 @@
 package dev.nationsforge.integration.ftbchunks;
 
 import dev.nationsforge.NationsForge;
+import dev.nationsforge.integration.FTBAccess;
 import dev.nationsforge.nation.Nation;
 import net.minecraft.server.MinecraftServer;
 import net.minecraftforge.fml.ModList;
 
-import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -15,26 +18,33 @@ import java.util.UUID;
  * Chunks owned by the nation's FTB server team "dominion_TAG" are counted
  * here and exposed to NationPowerCalculator.
  *
- * Reflection chain (corrected):
+ * Call chain (bound once in {@link FTBAccess}):
  *   FTBChunksAPI.api()                    → API instance
  *   api.getManager()                      → ClaimedChunkManager (NO-ARG!)
  *   manager.getAllClaimedChunks()          → Collection<ClaimedChunk>
  *   chunk.getTeamData()                   → ChunkTeamData
  *   teamData.getTeam()                    → Team
  *   team.getId()                          → UUID  → compare to our team's UUID
+ *
+ * The claim list is walked once per call and bucketed by owning team.
+ * There is deliberately no per-nation walk: callers take one
+ * {@link #countClaimsByTeam} (or {@link #startClaimCount} to spread the walk
+ * over several ticks) and look nations up in the result with
+ * {@link #countClaimedChunks}.
  */
 public final class FTBChunksHelper {
 
     private static Boolean ftbChunksLoaded = null;
     private static boolean reflectionFailed = false;
 
-    // FTBChunks reflection handles
-    private static Method mApiGet;         // FTBChunksAPI.api()
-    private static Method mGetManager;    // api.getManager()  — NO ARGS
-    private static Method mGetAllClaimed; // manager.getAllClaimedChunks()
-    private static Method mGetTeamData;   // chunk.getTeamData()
-    private static Method mGetTeam;       // teamData.getTeam()
-    private static Method mGetTeamId;     // team.getId()
+    /**
+     * Nation tag (lower case) → FTB server-team UUID. Filled on first successful
+     * lookup; invalidated by {@link FTBChunksEvents} when nations are created or
+     * disbanded, and by {@link #invalidateTeamId} on a tag change. Misses are not
+     * cached: the team may be created lazily later (e.g. when the next member
+     * joins), and nothing would tell this cache about it.
+     */
+    private static final Map<String, UUID> teamIds = new HashMap<>();
 
     private FTBChunksHelper() {}
 
@@ -47,79 +57,134 @@ public final class FTBChunksHelper {
     }
 
     /**
-     * Counts the number of chunks claimed by the nation's FTB server team
-     * across all dimensions.
+     * Looks up a nation's chunk count in a {@link #countClaimsByTeam} result.
      *
-     * @return chunk count, or 0 if FTBChunks is absent or unavailable.
+     * @return chunk count, or 0 if the nation has no FTB server team.
      */
-    public static long countClaimedChunks(MinecraftServer server, Nation nation) {
-        if (!isLoaded() || reflectionFailed) return 0;
-        try {
-            return countViaReflection(server, nation);
-        } catch (Exception e) {
-            reflectionFailed = true;
-            NationsForge.LOGGER.warn("[Dominion/FTBChunks] countClaimedChunks reflection failed (will not retry): {}", e.getMessage());
-            return 0;
-        }
+    public static long countClaimedChunks(MinecraftServer server, Nation nation, Map<UUID, Long> claimsByTeam) {
+        if (claimsByTeam.isEmpty()) return 0;
+        UUID teamId = teamIdOf(server, nation.getTag());
+        if (teamId == null) return 0;
+        return claimsByTeam.getOrDefault(teamId, 0L);
     }
 
-    // ── Reflection ───────────────────────────────────────────────────────────────
-
-    private static long countViaReflection(MinecraftServer server, Nation nation) throws Exception {
-        initReflection();
+    /** Forget the cached FTB team of a nation tag — its team was created, deleted or renamed. */
+    public static void invalidateTeamId(String nationTag) {
+        teamIds.remove(nationTag.toLowerCase());
+    }
 
-        // Look up the FTB Teams team UUID for "dominion_<tag>" via FTBTeams reflection
-        UUID teamId = FTBTeamsReflectionHelper.getServerTeamId(server,
-                "dominion_" + nation.getTag().toLowerCase());
-        if (teamId == null) return 0;
+    /** Forget every cached FTB team — called on server stop. */
+    public static void clearTeamIds() {
+        teamIds.clear();
+    }
 
-        // ONE global manager for all dimensions
-        Object api      = mApiGet.invoke(null);
-        Object manager  = mGetManager.invoke(api);       // no-arg getManager()
-        if (manager == null) return 0;
-
-        java.util.Collection<?> claimed = (java.util.Collection<?>) mGetAllClaimed.invoke(manager);
-        long count = 0;
-        for (Object chunk : claimed) {
-            try {
-                Object teamData  = mGetTeamData.invoke(chunk);
-                if (teamData == null) continue;
-                Object team      = mGetTeam.invoke(teamData);
-                if (team == null) continue;
-                Object chunkTeamId = mGetTeamId.invoke(team);
-                if (teamId.equals(chunkTeamId)) count++;
-            } catch (Exception ignored) {}
+    private static UUID teamIdOf(MinecraftServer server, String nationTag) {
+        String tag = nationTag.toLowerCase();
+        UUID id = teamIds.get(tag);
+        if (id == null) {
+            id = FTBTeamsReflectionHelper.getServerTeamId(server, "dominion_" + tag);
+            if (id != null)
+                teamIds.put(tag, id);
         }
-        return count;
+        return id;
     }
 
-    private static void initReflection() throws Exception {
-        if (mApiGet != null) return;   // already initialised
-
-        // FTBChunksAPI.api() → API instance
-        Class<?> apiClass = Class.forName("dev.ftb.mods.ftbchunks.api.FTBChunksAPI");
-        mApiGet = apiClass.getMethod("api");
-        Object apiInstance = mApiGet.invoke(null);
+    /**
+     * Counts every claimed chunk in the world by owning FTB team, in a single
+     * pass over the claim list.
+     *
+     * @return team UUID → chunk count; empty if FTBChunks is absent or unavailable.
+     */
+    public static Map<UUID, Long> countClaimsByTeam(MinecraftServer server) {
+        ClaimCount count = startClaimCount(server);
+        if (count == null || !count.advance(Long.MAX_VALUE))
+            return Map.of();
+        return count.result();
+    }
 
-        // api.getManager() — NO ARGUMENT (not per-level!)
-        mGetManager = apiInstance.getClass().getMethod("getManager");
-        Object manager = mGetManager.invoke(apiInstance);
+    /**
+     * Begins a {@link #countClaimsByTeam} walk that the caller advances a slice
+     * at a time with {@link ClaimCount#advance}.
+     *
+     * @return the walk, or null if FTBChunks is absent or unavailable.
+     */
+    public static ClaimCount startClaimCount(MinecraftServer server) {
+        if (!isLoaded() || reflectionFailed || !FTBAccess.chunksAvailable() || !FTBAccess.teamsApiAvailable())
+            return null;
+        try {
+            // ONE global manager for all dimensions
+            Object manager = FTBAccess.chunkManager();
+            if (manager == null) return null;
+            return new ClaimCount(FTBAccess.allClaimedChunks(manager).toArray());
+        } catch (Throwable e) {
+            reflectionFailed(e);
+            return null;
+        }
+    }
 
-        // manager.getAllClaimedChunks()
-        mGetAllClaimed = manager.getClass().getMethod("getAllClaimedChunks");
+    private static void reflectionFailed(Throwable e) {
+        reflectionFailed = true;
+        NationsForge.LOGGER.warn("[Dominion/FTBChunks] countClaimsByTeam reflection failed (will not retry): {}", e.getMessage());
+    }
 
-        // chunk.getTeamData() → ChunkTeamData
-        Class<?> claimedChunkInterface = Class.forName("dev.ftb.mods.ftbchunks.api.ClaimedChunk");
-        mGetTeamData = claimedChunkInterface.getMethod("getTeamData");
+    // ── Counting ─────────────────────────────────────────────────────────────────
 
-        // teamData.getTeam() → Team
-        Class<?> chunkTeamDataInterface = Class.forName("dev.ftb.mods.ftbchunks.api.ChunkTeamData");
-        mGetTeam = chunkTeamDataInterface.getMethod("getTeam");
+    /**
+     * An in-progress claim count over a copy of the claim list taken when it
+     * started, so it can be spread over several ticks while claims change. The
+     * copy is a plain array of references; the per-chunk lookups are what cost.
+     */
+    public static final class ClaimCount {
+        /** Chunks between clock checks. */
+        private static final int STRIDE = 256;
+
+        private final Object[] chunks;
+        private int next = 0;
+        /**
+         * Keyed by the chunk's team data object first — FTB shares one instance
+         * per team — so the team and its id are resolved once per team, not per chunk.
+         */
+        private final Map<Object, long[]> byTeamData = new IdentityHashMap<>();
+
+        private ClaimCount(Object[] chunks) {
+            this.chunks = chunks;
+        }
 
-        // team.getId() → UUID
-        Class<?> teamInterface = Class.forName("dev.ftb.mods.ftbteams.api.Team");
-        mGetTeamId = teamInterface.getMethod("getId");
+        /**
+         * Walks chunks until {@code deadlineNanos} ({@link System#nanoTime()})
+         * passes, at least {@value #STRIDE} per call.
+         *
+         * @return true once every chunk has been counted
+         */
+        public boolean advance(long deadlineNanos) {
+            while (next < chunks.length) {
+                int end = Math.min(chunks.length, next + STRIDE);
+                for (; next < end; next++) {
+                    try {
+                        Object teamData = FTBAccess.chunkTeamData(chunks[next]);
+                        if (teamData == null) continue;
+                        byTeamData.computeIfAbsent(teamData, k -> new long[1])[0]++;
+                    } catch (Throwable ignored) {}
+                }
+                if (System.nanoTime() >= deadlineNanos)
+                    break;
+            }
+            return next == chunks.length;
+        }
 
-        NationsForge.LOGGER.info("[Dominion/FTBChunks] FTBChunksHelper reflection initialised OK");
+        /** Team UUID → chunk count; call once {@link #advance} returned true. */
+        public Map<UUID, Long> result() {
+            Map<UUID, Long> counts = new HashMap<>();
+            for (Map.Entry<Object, long[]> e : byTeamData.entrySet()) {
+                try {
+                    Object team = FTBAccess.teamOfTeamData(e.getKey());
+                    if (team == null) continue;
+                    UUID id = FTBAccess.teamId(team);
+                    if (id != null)
+                        counts.merge(id, e.getValue()[0], Long::sum);
+                } catch (Throwable ignored) {}
+            }
+            return counts;
+        }
     }
 }
@@ -1,30 +1,28 @@
 package dev.nationsforge.integration.ftbchunks;
 
 import dev.nationsforge.NationsForge;
+import dev.nationsforge.integration.FTBAccess;
 import net.minecraft.commands.CommandSourceStack;
-import net.minecraft.resources.ResourceKey;
-import net.minecraft.server.MinecraftServer;
 import net.minecraft.world.level.Level;
 import net.minecraftforge.fml.ModList;
 
-import java.lang.reflect.Constructor;
-import java.lang.reflect.Method;
-import java.util.Optional;
+import javax.annotation.Nullable;
 
 /**
  * Direct FTBChunks + FTBTeams API integration for bot nation territory claiming.
  *
- * Avoids command-string parsing by calling the Java APIs directly via
- * reflection. This is more reliable for the bulk claiming done during world
- * generation because:
+ * Avoids command-string parsing by calling the Java APIs directly through
+ * the method handles in {@link FTBAccess}. This is more reliable for the bulk
+ * claiming done during world generation because:
  * — No command argument serialisation / deserialisation round-trips.
  * — TeamArgument lookup quirks do not apply.
  * — Server teams bypass the per-team chunk limit entirely (checked in
  *   ChunkTeamDataImpl.claim: "if (!team.isServerTeam() && size >= maxClaims)").
  *
- * Usage:
- *   FTBChunksProxy.claimChunksForBotTeam(server, "dominion_sky",
- *       capitalBlockX, capitalBlockZ, radius);
+ * Usage (see {@link dev.nationsforge.bot.BotTerritoryClaimer}):
+ *   Object data = FTBChunksProxy.prepareTeam("dominion_sky");
+ *   FTBChunksProxy.claim(data, "dominion_sky", source, chunkX, chunkZ);   // × N, across ticks
+ *   FTBChunksProxy.finishTeam(data, "dominion_sky", N);  // one markDirty
  *
  * All errors are logged and silently suppressed so world generation is never
  * aborted by a missing soft-dependency.
@@ -34,91 +32,91 @@ public final class FTBChunksProxy {
     private static Boolean ftbChunksLoaded = null;
     private static boolean failed          = false;
 
-    // ── FTBTeams reflection ──────────────────────────────────────────────────────
-    private static Method mTeamsApi;       // FTBTeamsAPI.api()
-    private static Method mTeamsGetMgr;   // teamsApi.getManager()
-    private static Method mGetTeamByName; // teamsManager.getTeamByName(String) → Optional<Team>
-
-    // ── FTBChunks reflection ─────────────────────────────────────────────────────
-    private static Method mChunksApi;      // FTBChunksAPI.api()
-    private static Method mChunksGetMgr;  // chunksApi.getManager()  — NO ARGS
-    private static Method mGetOrCreate;   // ClaimedChunkManager.getOrCreateData(Team)
-    private static Method mSetExtraClaim; // ChunkTeamData.setExtraClaimChunks(int)
-    private static Method mClaim;         // ChunkTeamData.claim(CSS, ChunkDimPos, boolean)
-    private static Method mMarkDirty;     // ChunkTeamData.markDirty()
-
-    // ── ChunkDimPos ──────────────────────────────────────────────────────────────
-    private static Constructor<?> cdpCtor; // ChunkDimPos(ResourceKey<Level>, int, int)
-
     private FTBChunksProxy() {}
 
-    // ── Public entry point ───────────────────────────────────────────────────────
+    // ── Batch claiming ───────────────────────────────────────────────────────────
 
     /**
-     * Claims a (2*radius+1) × (2*radius+1) square of chunks centred on
-     * (blockX, blockZ) in the Overworld for the named FTB server team.
+     * Resolves the ChunkTeamData of the named FTB server team so a batch of
+     * chunks can be claimed against it with {@link #claim}, possibly spread over
+     * several ticks. Also raises the team's extra claim allowance (server teams
+     * bypass limits, but setting this avoids any edge-case early returns).
      *
-     * @param server   running server
-     * @param teamName the FTB team short name (e.g. "dominion_sky")
-     * @param blockX   capital block X
-     * @param blockZ   capital block Z
-     * @param radius   chunk radius (radius=3 → 7×7 = 49 chunks)
+     * @return the team data, or null if FTBChunks is unavailable or the team
+     *         does not exist
      */
-    public static void claimChunksForBotTeam(MinecraftServer server,
-            String teamName, int blockX, int blockZ, int radius) {
-        if (!isLoaded() || failed) return;
+    @Nullable
+    public static Object prepareTeam(String teamName) {
+        if (!isLoaded() || failed || !FTBAccess.chunksAvailable() || !FTBAccess.teamsApiAvailable()) return null;
         try {
-            ensureInit();
-
-            // ── 1. Resolve the FTBTeams server team ───────────────────────────
-            Object teamsApi     = mTeamsApi.invoke(null);
-            Object teamsMgr     = mTeamsGetMgr.invoke(teamsApi);
-            @SuppressWarnings("unchecked")
-            Optional<Object> teamOpt = (Optional<Object>) mGetTeamByName.invoke(teamsMgr, teamName);
-            if (teamOpt == null || teamOpt.isEmpty()) {
+            Object team = FTBAccess.findTeam(teamName);
+            if (team == null) {
                 NationsForge.LOGGER.warn("[Dominion/FTBChunks] Team '{}' not found — skipping chunk claim", teamName);
-                return;
+                return null;
             }
-            Object team = teamOpt.get();
-
-            // ── 2. Resolve ChunkTeamData for the team ─────────────────────────
-            Object chunksApi = mChunksApi.invoke(null);
-            Object chunksMgr = mChunksGetMgr.invoke(chunksApi);
-            Object teamData  = mGetOrCreate.invoke(chunksMgr, team);
+            Object chunksMgr = FTBAccess.chunkManager();
+            Object teamData  = chunksMgr == null ? null : FTBAccess.getOrCreateTeamData(chunksMgr, team);
             if (teamData == null) {
                 NationsForge.LOGGER.warn("[Dominion/FTBChunks] No ChunkTeamData for team '{}'", teamName);
-                return;
+                return null;
             }
+            FTBAccess.setExtraClaimChunks(teamData, 4096);
+            return teamData;
+        } catch (Throwable e) {
+            fail(teamName, e);
+            return null;
+        }
+    }
 
-            // Give extra claim allowance (server teams bypass limits,
-            // but setting this avoids any edge-case early returns)
-            mSetExtraClaim.invoke(teamData, 4096);
-
-            // ── 3. Claim each chunk in the square ─────────────────────────────
-            CommandSourceStack src = server.createCommandSourceStack().withPermission(4);
-            int chunkX = blockX >> 4;
-            int chunkZ = blockZ >> 4;
-            int claimed = 0;
-
-            for (int dx = -radius; dx <= radius; dx++) {
-                for (int dz = -radius; dz <= radius; dz++) {
-                    Object cdp = cdpCtor.newInstance(Level.OVERWORLD, chunkX + dx, chunkZ + dz);
-                    mClaim.invoke(teamData, src, cdp, false);
-                    claimed++;
-                }
-            }
+    /**
+     * True only if FTB Teams answered and has no team of that name — as opposed
+     * to {@link #prepareTeam} returning null because the API is unavailable.
+     */
+    public static boolean isTeamMissing(String teamName) {
+        if (!isLoaded() || failed || !FTBAccess.teamsApiAvailable()) return false;
+        try {
+            return FTBAccess.findTeam(teamName) == null;
+        } catch (Throwable e) {
+            return false;
+        }
+    }
 
-            mMarkDirty.invoke(teamData);
-            NationsForge.LOGGER.info("[Dominion/FTBChunks] Claimed {} chunks for team '{}' at chunk ({},{})",
-                    claimed, teamName, chunkX, chunkZ);
+    /**
+     * Claims one Overworld chunk for a team prepared by {@link #prepareTeam}.
+     * The team data is not marked dirty; call {@link #finishTeam} once after
+     * the batch. A failure is logged and only concerns this team's batch.
+     *
+     * @return false if the claim failed and the team's further claims should stop
+     */
+    public static boolean claim(Object teamData, String teamName, CommandSourceStack source, int chunkX, int chunkZ) {
+        if (failed) return false;
+        try {
+            FTBAccess.claim(teamData, source, FTBAccess.chunkPos(Level.OVERWORLD, chunkX, chunkZ));
+            return true;
+        } catch (Throwable e) {
+            NationsForge.LOGGER.warn("[Dominion/FTBChunks] Claiming chunk ({}, {}) for team '{}' failed: {}",
+                    chunkX, chunkZ, teamName, e.getMessage());
+            return false;
+        }
+    }
 
-        } catch (Exception e) {
-            failed = true;
-            NationsForge.LOGGER.warn("[Dominion/FTBChunks] Direct claim failed ({}), future calls skipped: {}",
-                    teamName, e.getMessage());
+    /** Marks a team's chunk data dirty once after its batch of claims. */
+    public static void finishTeam(Object teamData, String teamName, int claimed) {
+        if (failed) return;
+        try {
+            FTBAccess.markTeamDataDirty(teamData);
+            NationsForge.LOGGER.info("[Dominion/FTBChunks] Claimed {} chunks for team '{}'", claimed, teamName);
+        } catch (Throwable e) {
+            fail(teamName, e);
         }
     }
 
+    private static void fail(String what, Throwable e) {
+        failed = true;
+        NationsForge.LOGGER.warn("[Dominion/FTBChunks] Direct claim failed ({}), future calls skipped: {}",
+                what, e.getMessage());
+    }
+
     // ── Helpers ──────────────────────────────────────────────────────────────────
 
     public static boolean isLoaded() {
@@ -126,41 +124,4 @@ public final class FTBChunksProxy {
             ftbChunksLoaded = ModList.get().isLoaded("ftbchunks");
         return ftbChunksLoaded;
     }
-
-    private static void ensureInit() throws Exception {
-        if (mTeamsApi != null) return;   // already initialised
-
-        // ── FTBTeams API ──────────────────────────────────────────────────────
-        Class<?> teamsApiClass = Class.forName("dev.ftb.mods.ftbteams.api.FTBTeamsAPI");
-        mTeamsApi = teamsApiClass.getMethod("api");
-        Object teamsApiInst = mTeamsApi.invoke(null);
-        mTeamsGetMgr   = teamsApiInst.getClass().getMethod("getManager");
-        Object teamsMgr = mTeamsGetMgr.invoke(teamsApiInst);
-        mGetTeamByName  = teamsMgr.getClass().getMethod("getTeamByName", String.class);
-
-        Class<?> teamInterface = Class.forName("dev.ftb.mods.ftbteams.api.Team");
-
-        // ── FTBChunks API ─────────────────────────────────────────────────────
-        Class<?> chunksApiClass = Class.forName("dev.ftb.mods.ftbchunks.api.FTBChunksAPI");
-        mChunksApi = chunksApiClass.getMethod("api");
-        Object chunksApiInst = mChunksApi.invoke(null);
-        mChunksGetMgr   = chunksApiInst.getClass().getMethod("getManager"); // NO ARGS
-        Object chunksMgr = mChunksGetMgr.invoke(chunksApiInst);
-
-        // ClaimedChunkManager.getOrCreateData(Team)
-        mGetOrCreate = chunksMgr.getClass().getMethod("getOrCreateData", teamInterface);
-
-        // ChunkTeamData methods (look up from interface for stability)
-        Class<?> chunkTeamDataInterface = Class.forName("dev.ftb.mods.ftbchunks.api.ChunkTeamData");
-        mSetExtraClaim = chunkTeamDataInterface.getMethod("setExtraClaimChunks", int.class);
-        mMarkDirty     = chunkTeamDataInterface.getMethod("markDirty");
-
-        // ChunkDimPos class & constructor
-        Class<?> cdpClass = Class.forName("dev.ftb.mods.ftblibrary.math.ChunkDimPos");
-        mClaim  = chunkTeamDataInterface.getMethod("claim", CommandSourceStack.class, cdpClass, boolean.class);
-        cdpCtor = cdpClass.getDeclaredConstructor(ResourceKey.class, int.class, int.class);
-        cdpCtor.setAccessible(true);
-
-        NationsForge.LOGGER.info("[Dominion/FTBChunks] FTBChunksProxy reflection initialised OK");
-    }
 }
@@ -14,9 +14,10 @@ public class DiplomacyRelation {
 
     private final UUID fromNationId;
     private final UUID toNationId;
-    private RelationType type;
+    /** Fixed once created; {@link Nation#setRelation} replaces the relation so its counters stay in step. */
+    private final RelationType type;
     private long establishedAt;
-    private String reason;
+    private final String reason;
 
     public DiplomacyRelation(UUID from, UUID to, RelationType type, String reason) {
         this.fromNationId = from;
@@ -26,6 +27,12 @@ public class DiplomacyRelation {
         this.reason = reason == null ? "" : reason;
     }
 
+    /** Restores a relation with its original timestamp (wire decoding). */
+    DiplomacyRelation(UUID from, UUID to, RelationType type, String reason, long establishedAt) {
+        this(from, to, type, reason);
+        this.establishedAt = establishedAt;
+    }
+
     // ── Getters ─────────────────────────────────────────────────────────────────
 
     public UUID getFromNationId() {
@@ -48,12 +55,8 @@ public class DiplomacyRelation {
         return reason;
     }
 
-    public void setType(RelationType type) {
-        this.type = type;
-    }
-
-    public void setReason(String reason) {
-        this.reason = reason;
+    public DiplomacyRelation copy() {
+        return new DiplomacyRelation(fromNationId, toNationId, type, reason, establishedAt);
     }
 
     // ── NBT serialisation ────────────────────────────────────────────────────────
@@ -15,7 +15,9 @@ public class DiplomacyRequest {
     public enum Status {
         PENDING,
         ACCEPTED,
-        DECLINED
+        DECLINED,
+        /** Unanswered past the configured time-to-live. */
+        EXPIRED
     }
 
     private final UUID id;
@@ -66,6 +68,10 @@ public class DiplomacyRequest {
         this.status = status;
     }
 
+    public DiplomacyRequest copy() {
+        return new DiplomacyRequest(id, fromNationId, toNationId, proposedType, message, status, timestamp);
+    }
+
     // ── NBT ───────────────────────────────────────────────────────────────────────
 
     public CompoundTag toNBT() {
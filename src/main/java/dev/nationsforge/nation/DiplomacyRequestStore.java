@@ -0,0 +1,127 @@
+package dev.nationsforge.nation;
+
+import java.util.*;
+
+/**
+ * Pending {@link DiplomacyRequest}s, indexed by id, by sender, by target and by
+ * unordered nation pair, so the per-nation queries and the duplicate check
+ * touch only the requests involving that nation instead of every request.
+ *
+ * A request's endpoints never change, so the indexes only need maintaining on
+ * {@link #add} and {@link #remove}. Status is not indexed; the queries filter
+ * for {@link DiplomacyRequest.Status#PENDING} over the (small) per-nation sets.
+ * Deadlines are tracked in a {@link RequestExpiryWheel} and collected by
+ * {@link #expire}.
+ */
+final class DiplomacyRequestStore {
+
+    /** Unordered pair of nation ids. */
+    private record Pair(UUID low, UUID high) {
+        static Pair of(UUID a, UUID b) {
+            return a.compareTo(b) <= 0 ? new Pair(a, b) : new Pair(b, a);
+        }
+    }
+
+    private final Map<UUID, DiplomacyRequest> byId = new LinkedHashMap<>();
+    /** sender nation → its requests, in insertion order. */
+    private final Map<UUID, Map<UUID, DiplomacyRequest>> byFrom = new HashMap<>();
+    /** target nation → requests it received, in insertion order. */
+    private final Map<UUID, Map<UUID, DiplomacyRequest>> byTo = new HashMap<>();
+    /** nation pair → requests between them in either direction. */
+    private final Map<Pair, Map<UUID, DiplomacyRequest>> byPair = new HashMap<>();
+    private final RequestExpiryWheel expiry = new RequestExpiryWheel();
+
+    /**
+     * @param ttlMillis time after the request's timestamp at which it expires;
+     *                  0 or less keeps it until answered
+     */
+    void add(DiplomacyRequest request, long ttlMillis) {
+        remove(request.getId());
+        if (ttlMillis > 0)
+            expiry.schedule(request, request.getTimestamp() + ttlMillis);
+        UUID id = request.getId();
+        byId.put(id, request);
+        byFrom.computeIfAbsent(request.getFromNationId(), k -> new LinkedHashMap<>()).put(id, request);
+        byTo.computeIfAbsent(request.getToNationId(), k -> new LinkedHashMap<>()).put(id, request);
+        byPair.computeIfAbsent(Pair.of(request.getFromNationId(), request.getToNationId()),
+                k -> new LinkedHashMap<>(2)).put(id, request);
+    }
+
+    /** Returns the removed request, or null if there was none with that id. */
+    DiplomacyRequest remove(UUID requestId) {
+        DiplomacyRequest request = byId.remove(requestId);
+        if (request == null)
+            return null;
+        unlink(byFrom, request.getFromNationId(), requestId);
+        unlink(byTo, request.getToNationId(), requestId);
+        unlink(byPair, Pair.of(request.getFromNationId(), request.getToNationId()), requestId);
+        return request;
+    }
+
+    private static <K> void unlink(Map<K, Map<UUID, DiplomacyRequest>> index, K key, UUID requestId) {
+        Map<UUID, DiplomacyRequest> bucket = index.get(key);
+        if (bucket != null && bucket.remove(requestId) != null && bucket.isEmpty())
+            index.remove(key);
+    }
+
+    /** Removes and returns every request whose deadline has passed by {@code now}. */
+    List<DiplomacyRequest> expire(long now) {
+        List<DiplomacyRequest> expired = new ArrayList<>();
+        expiry.sweep(now, r -> byId.get(r.getId()) == r, r -> {
+            remove(r.getId());
+            expired.add(r);
+        });
+        return expired;
+    }
+
+    DiplomacyRequest get(UUID requestId) {
+        return byId.get(requestId);
+    }
+
+    /** All stored requests, in insertion order. */
+    Collection<DiplomacyRequest> all() {
+        return Collections.unmodifiableCollection(byId.values());
+    }
+
+    int size() {
+        return byId.size();
+    }
+
+    List<DiplomacyRequest> incoming(UUID nationId) {
+        return pending(byTo.get(nationId));
+    }
+
+    List<DiplomacyRequest> outgoing(UUID nationId) {
+        return pending(byFrom.get(nationId));
+    }
+
+    /** Incoming and outgoing pending requests, oldest first. */
+    List<DiplomacyRequest> involving(UUID nationId) {
+        List<DiplomacyRequest> list = pending(byFrom.get(nationId));
+        list.addAll(pending(byTo.get(nationId)));
+        list.sort(Comparator.comparingLong(DiplomacyRequest::getTimestamp));
+        return list;
+    }
+
+    boolean hasPendingBetween(UUID nationA, UUID nationB) {
+        Map<UUID, DiplomacyRequest> bucket = byPair.get(Pair.of(nationA, nationB));
+        if (bucket == null)
+            return false;
+        for (DiplomacyRequest r : bucket.values()) {
+            if (r.getStatus() == DiplomacyRequest.Status.PENDING)
+                return true;
+        }
+        return false;
+    }
+
+    private static List<DiplomacyRequest> pending(Map<UUID, DiplomacyRequest> bucket) {
+        List<DiplomacyRequest> list = new ArrayList<>();
+        if (bucket == null)
+            return list;
+        for (DiplomacyRequest r : bucket.values()) {
+            if (r.getStatus() == DiplomacyRequest.Status.PENDING)
+                list.add(r);
+        }
+        return list;
+    }
+}
@@ -3,6 +3,7 @@ package dev.nationsforge.nation;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.ListTag;
 import net.minecraft.nbt.Tag;
+import net.minecraft.network.FriendlyByteBuf;
 
 import java.util.*;
 
@@ -26,6 +27,8 @@ public class Nation {
     private final Set<UUID> pendingInvites = new HashSet<>();
     /** Relations keyed by OTHER nation's UUID. */
     private final Map<UUID, DiplomacyRelation> relations = new HashMap<>();
+    /** Number of relations per {@link RelationType}, indexed by ordinal. Kept in step with {@link #relations}. */
+    private final int[] relationCounts = new int[RelationType.values().length];
     /** Whether the nation is open (anyone can join without invite). */
     private boolean openRecruitment = false;
     private long treasury = 0L;
@@ -41,6 +44,18 @@ public class Nation {
      * synced to client.
      */
     private long power = 0L;
+    /**
+     * Set whenever an input of the power formula changes; cleared by
+     * NationPowerCalculator so unchanged nations are not recomputed.
+     */
+    private boolean powerDirty = true;
+    /** Age in days the cached power was computed for (the age bonus ticks over daily). */
+    private long powerAgeDays = -1L;
+    /**
+     * Bumped by every mutator. The sync tracker compares it with the revision it
+     * last encoded, so only nations that were touched are re-encoded.
+     */
+    private int revision = 0;
     private long createdAt;
     /**
      * Custom banner flag chosen by the nation's leaders. Never null — defaults to
@@ -59,6 +74,13 @@ public class Nation {
      */
     private int capitalX = 0;
     private int capitalZ = 0;
+    /**
+     * Client-side only: true when this copy was decoded from the summary wire
+     * form and carries no members, invites or relations.
+     */
+    private boolean summary = false;
+    /** Member count carried by a summary in place of the member map. */
+    private int summaryMemberCount = 0;
 
     // ── Constructor ──────────────────────────────────────────────────────────────
 
@@ -75,13 +97,17 @@ public class Nation {
     // ── Member management ────────────────────────────────────────────────────────
 
     public void addMember(UUID player, NationRank rank) {
-        members.put(player, rank);
+        if (members.put(player, rank) == null)
+            powerDirty = true;
         pendingInvites.remove(player);
+        revision++;
     }
 
     public void removeMember(UUID player) {
-        members.remove(player);
+        if (members.remove(player) != null)
+            powerDirty = true;
         pendingInvites.remove(player);
+        revision++;
     }
 
     public boolean hasMember(UUID player) {
@@ -99,11 +125,12 @@ public class Nation {
                 // Transfer leadership
                 this.leaderId = player;
             }
+            revision++;
         }
     }
 
     public int getMemberCount() {
-        return members.size();
+        return summary ? summaryMemberCount : members.size();
     }
 
     public Map<UUID, NationRank> getMembers() {
@@ -113,7 +140,8 @@ public class Nation {
     // ── Invitations ──────────────────────────────────────────────────────────────
 
     public void addInvite(UUID player) {
-        pendingInvites.add(player);
+        if (pendingInvites.add(player))
+            revision++;
     }
 
     public boolean hasInvite(UUID player) {
@@ -133,9 +161,46 @@ public class Nation {
 
     public void setRelation(UUID otherNation, RelationType type, String reason) {
         if (type == RelationType.NEUTRAL) {
-            relations.remove(otherNation);
+            dropRelation(otherNation);
+        } else {
+            putRelation(otherNation, new DiplomacyRelation(this.id, otherNation, type, reason));
+        }
+    }
+
+    /** Puts back a relation exactly as recorded (journal replay); null clears it. */
+    void restoreRelation(UUID otherNation, DiplomacyRelation rel) {
+        if (rel == null) {
+            dropRelation(otherNation);
         } else {
-            relations.put(otherNation, new DiplomacyRelation(this.id, otherNation, type, reason));
+            putRelation(otherNation, rel);
+        }
+    }
+
+    /**
+     * Number of relations of the given type. Kept up to date as relations
+     * change, so this is a constant-time read with no allocation — prefer it
+     * over filtering {@link #getRelations()} in tick and render paths. Always 0
+     * for a {@link #isSummary() summary} copy.
+     */
+    public int countRelations(RelationType type) {
+        return relationCounts[type.ordinal()];
+    }
+
+    private void putRelation(UUID otherNation, DiplomacyRelation rel) {
+        DiplomacyRelation old = relations.put(otherNation, rel);
+        if (old != null)
+            relationCounts[old.getType().ordinal()]--;
+        relationCounts[rel.getType().ordinal()]++;
+        powerDirty = true;
+        revision++;
+    }
+
+    private void dropRelation(UUID otherNation) {
+        DiplomacyRelation old = relations.remove(otherNation);
+        if (old != null) {
+            relationCounts[old.getType().ordinal()]--;
+            powerDirty = true;
+            revision++;
         }
     }
 
@@ -146,19 +211,50 @@ public class Nation {
     // ── Economy / scoring ────────────────────────────────────────────────────────
 
     public void addTreasury(long amount) {
-        treasury = Math.max(0, treasury + amount);
+        if (amount != 0)
+            setTreasury(Math.max(0, treasury + amount));
     }
 
     public void addScore(long amount) {
-        score = Math.max(0, score + amount);
+        long next = Math.max(0, score + amount);
+        if (next == score)
+            return;
+        score = next;
+        powerDirty = true; // the next recalculation puts score back in step with power
+        revision++;
     }
 
     public void setTerritory(long chunks) {
-        this.territory = Math.max(0, chunks);
+        long next = Math.max(0, chunks);
+        if (next == territory)
+            return;
+        this.territory = next;
+        powerDirty = true;
+        revision++;
     }
 
     public void setPower(long power) {
+        if (power == this.power)
+            return;
         this.power = power;
+        powerDirty = true;
+        revision++;
+    }
+
+    /** True if power must be recomputed for the given age in days. */
+    boolean needsPowerRecalculation(long ageDays) {
+        return powerDirty || powerAgeDays != ageDays;
+    }
+
+    /** Called by NationPowerCalculator once power and score are current. */
+    void markPowerClean(long ageDays) {
+        powerDirty = false;
+        powerAgeDays = ageDays;
+    }
+
+    /** Mutation counter; changes whenever any field of the nation may have changed. */
+    public int getRevision() {
+        return revision;
     }
 
     // ── Getters / Setters ────────────────────────────────────────────────────────
@@ -211,36 +307,54 @@ public class Nation {
         return createdAt;
     }
 
+    /** Server-side nations are renamed through {@link NationSavedData#renameNation} to keep its indexes current. */
     public void setName(String name) {
         this.name = name;
+        revision++;
     }
 
+    /** Server-side nations are retagged through {@link NationSavedData#retagNation} to keep its indexes current. */
     public void setTag(String tag) {
         this.tag = tag;
+        revision++;
     }
 
     public void setColour(int colour) {
         this.colour = colour;
+        revision++;
     }
 
     public void setDescription(String desc) {
         this.description = desc == null ? "" : desc;
+        revision++;
     }
 
     public void setLeaderId(UUID leaderId) {
         this.leaderId = leaderId;
+        revision++;
     }
 
     public void setOpenRecruitment(boolean open) {
         this.openRecruitment = open;
+        revision++;
     }
 
+    /** Power only sees whole {@link NationPowerCalculator#TREASURY_DIVISOR} steps, so smaller changes leave it clean. */
     public void setTreasury(long treasury) {
+        if (treasury == this.treasury)
+            return;
+        if (treasury / NationPowerCalculator.TREASURY_DIVISOR != this.treasury / NationPowerCalculator.TREASURY_DIVISOR)
+            powerDirty = true;
         this.treasury = treasury;
+        revision++;
     }
 
     public void setScore(long score) {
+        if (score == this.score)
+            return;
         this.score = score;
+        powerDirty = true;
+        revision++;
     }
 
     public NationFlag getFlag() {
@@ -249,6 +363,7 @@ public class Nation {
 
     public void setFlag(NationFlag flag) {
         this.flag = flag == null ? new NationFlag() : flag;
+        revision++;
     }
 
     public boolean isBot() {
@@ -257,6 +372,7 @@ public class Nation {
 
     public void setBot(boolean bot) {
         this.bot = bot;
+        revision++;
     }
 
     public int getCapitalX() {
@@ -270,6 +386,14 @@ public class Nation {
     public void setCapital(int x, int z) {
         this.capitalX = x;
         this.capitalZ = z;
+        revision++;
+    }
+
+    /**
+     * True if this is a client-side summary copy — see {@link #toBuf}.
+     */
+    public boolean isSummary() {
+        return summary;
     }
 
     // ── NBT serialisation ────────────────────────────────────────────────────────
@@ -359,7 +483,142 @@ public class Nation {
         ListTag relList = tag.getList("relations", Tag.TAG_COMPOUND);
         for (int i = 0; i < relList.size(); i++) {
             DiplomacyRelation rel = DiplomacyRelation.fromNBT(relList.getCompound(i));
-            nation.relations.put(rel.getToNationId(), rel);
+            nation.putRelation(rel.getToNationId(), rel);
+        }
+
+        return nation;
+    }
+
+    /**
+     * Deep copy sharing no mutable state with this nation, so it can be handed
+     * to the persistence thread.
+     */
+    public Nation copy() {
+        Nation c = new Nation(id, name, tag, colour, leaderId);
+        c.members.clear();
+        c.members.putAll(members);
+        c.pendingInvites.addAll(pendingInvites);
+        for (DiplomacyRelation rel : relations.values())
+            c.relations.put(rel.getToNationId(), rel.copy());
+        System.arraycopy(relationCounts, 0, c.relationCounts, 0, relationCounts.length);
+        c.description = description;
+        c.openRecruitment = openRecruitment;
+        c.treasury = treasury;
+        c.score = score;
+        c.territory = territory;
+        c.power = power;
+        c.createdAt = createdAt;
+        c.flag = new NationFlag(flag);
+        c.bot = bot;
+        c.capitalX = capitalX;
+        c.capitalZ = capitalZ;
+        return c;
+    }
+
+    // ── Wire format (used by sync packets, see NationWireCodec) ──────────────────
+
+    /**
+     * Writes this nation in the compact sync format. The summary form carries
+     * just what a list row needs, with the member map replaced by a count and
+     * no invites or relations.
+     */
+    void toBuf(NationWireCodec.Writer w, boolean asSummary) {
+        FriendlyByteBuf buf = w.buf();
+        buf.writeByte((asSummary ? 1 : 0) | (openRecruitment ? 2 : 0) | (bot ? 4 : 0));
+        w.writeUUID(id);
+        buf.writeUtf(name);
+        buf.writeUtf(tag);
+        buf.writeInt(colour);
+        w.writeUUID(leaderId);
+        buf.writeVarLong(score);
+        buf.writeVarLong(territory);
+        buf.writeVarLong(power);
+        flag.toBuf(buf);
+        if (asSummary) {
+            buf.writeVarInt(members.size());
+            return;
+        }
+
+        buf.writeUtf(description == null ? "" : description);
+        buf.writeVarLong(treasury);
+        buf.writeLong(createdAt);
+        buf.writeInt(capitalX);
+        buf.writeInt(capitalZ);
+
+        buf.writeVarInt(members.size());
+        for (Map.Entry<UUID, NationRank> entry : members.entrySet()) {
+            w.writeUUID(entry.getKey());
+            buf.writeEnum(entry.getValue());
+        }
+
+        buf.writeVarInt(pendingInvites.size());
+        for (UUID inv : pendingInvites)
+            w.writeUUID(inv);
+
+        // Relations grouped by type so each type is written once
+        Map<RelationType, List<DiplomacyRelation>> byType = new EnumMap<>(RelationType.class);
+        for (DiplomacyRelation rel : relations.values())
+            byType.computeIfAbsent(rel.getType(), k -> new ArrayList<>()).add(rel);
+        buf.writeVarInt(byType.size());
+        for (Map.Entry<RelationType, List<DiplomacyRelation>> group : byType.entrySet()) {
+            buf.writeEnum(group.getKey());
+            buf.writeVarInt(group.getValue().size());
+            for (DiplomacyRelation rel : group.getValue()) {
+                w.writeUUID(rel.getToNationId());
+                buf.writeVarLong(rel.getEstablishedAt());
+                w.writeString(rel.getReason());
+            }
+        }
+    }
+
+    static Nation fromBuf(NationWireCodec.Reader r) {
+        FriendlyByteBuf buf = r.buf();
+        int flags = buf.readByte();
+        UUID id = r.readUUID();
+        String name = buf.readUtf();
+        String nTag = buf.readUtf();
+        int colour = buf.readInt();
+        UUID leader = r.readUUID();
+
+        Nation nation = new Nation(id, name, nTag, colour, leader);
+        nation.members.clear();
+        nation.summary = (flags & 1) != 0;
+        nation.openRecruitment = (flags & 2) != 0;
+        nation.bot = (flags & 4) != 0;
+        nation.score = buf.readVarLong();
+        nation.territory = buf.readVarLong();
+        nation.power = buf.readVarLong();
+        nation.flag = NationFlag.fromBuf(buf);
+        if (nation.summary) {
+            nation.description = "";
+            nation.summaryMemberCount = buf.readVarInt();
+            return nation;
+        }
+
+        nation.description = buf.readUtf();
+        nation.treasury = buf.readVarLong();
+        nation.createdAt = buf.readLong();
+        nation.capitalX = buf.readInt();
+        nation.capitalZ = buf.readInt();
+
+        int memberCount = buf.readVarInt();
+        for (int i = 0; i < memberCount; i++)
+            nation.members.put(r.readUUID(), buf.readEnum(NationRank.class));
+
+        int inviteCount = buf.readVarInt();
+        for (int i = 0; i < inviteCount; i++)
+            nation.pendingInvites.add(r.readUUID());
+
+        int groups = buf.readVarInt();
+        for (int g = 0; g < groups; g++) {
+            RelationType type = buf.readEnum(RelationType.class);
+            int count = buf.readVarInt();
+            for (int i = 0; i < count; i++) {
+                UUID to = r.readUUID();
+                long at = buf.readVarLong();
+                String reason = r.readString();
+                nation.putRelation(to, new DiplomacyRelation(id, to, type, reason, at));
+            }
         }
 
         return nation;
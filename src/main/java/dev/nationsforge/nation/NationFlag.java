@@ -2,11 +2,13 @@ package dev.nationsforge.nation;
 
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.ListTag;
+import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.Items;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
@@ -69,12 +71,18 @@ public class NationFlag {
             "Lt. Gray", "Cyan", "Purple", "Blue", "Brown", "Green", "Red", "Black"
     };
 
-    private static final Item[] BANNER_ITEMS = {
-            Items.WHITE_BANNER, Items.ORANGE_BANNER, Items.MAGENTA_BANNER, Items.LIGHT_BLUE_BANNER,
-            Items.YELLOW_BANNER, Items.LIME_BANNER, Items.PINK_BANNER, Items.GRAY_BANNER,
-            Items.LIGHT_GRAY_BANNER, Items.CYAN_BANNER, Items.PURPLE_BANNER, Items.BLUE_BANNER,
-            Items.BROWN_BANNER, Items.GREEN_BANNER, Items.RED_BANNER, Items.BLACK_BANNER
-    };
+    /**
+     * Banner item per dye colour. Held in its own class so flags can be built,
+     * encoded and decoded without initialising the item registry.
+     */
+    private static final class BannerItems {
+        static final Item[] BY_COLOR = {
+                Items.WHITE_BANNER, Items.ORANGE_BANNER, Items.MAGENTA_BANNER, Items.LIGHT_BLUE_BANNER,
+                Items.YELLOW_BANNER, Items.LIME_BANNER, Items.PINK_BANNER, Items.GRAY_BANNER,
+                Items.LIGHT_GRAY_BANNER, Items.CYAN_BANNER, Items.PURPLE_BANNER, Items.BLUE_BANNER,
+                Items.BROWN_BANNER, Items.GREEN_BANNER, Items.RED_BANNER, Items.BLACK_BANNER
+        };
+    }
 
     // ── Fields ───────────────────────────────────────────────────────────────────
 
@@ -82,6 +90,12 @@ public class NationFlag {
     private int baseColorId = 0;
     private final List<Layer> layers = new ArrayList<>();
 
+    /** Lazily computed {@link #contentHash()}; cleared by every mutator. */
+    private long hash;
+    private boolean hashValid = false;
+    /** Lazily built {@link #getBannerStack()}; cleared by every mutator. */
+    private ItemStack bannerStack = null;
+
     // ── Layer ────────────────────────────────────────────────────────────────────
 
     public static class Layer {
@@ -127,6 +141,7 @@ public class NationFlag {
 
     public void setBaseColorId(int id) {
         this.baseColorId = id & 0xF;
+        invalidate();
     }
 
     public boolean addLayer(String patternCode, int colorId) {
@@ -135,20 +150,29 @@ public class NationFlag {
         if (!isValidPattern(patternCode))
             return false;
         layers.add(new Layer(patternCode, colorId));
+        invalidate();
         return true;
     }
 
     public void removeLayer(int index) {
-        if (index >= 0 && index < layers.size())
+        if (index >= 0 && index < layers.size()) {
             layers.remove(index);
+            invalidate();
+        }
     }
 
     public void setLayer(int index, String patternCode, int colorId) {
         if (index >= 0 && index < layers.size()) {
             layers.set(index, new Layer(patternCode, colorId));
+            invalidate();
         }
     }
 
+    private void invalidate() {
+        hashValid = false;
+        bannerStack = null;
+    }
+
     // ── Accessors ────────────────────────────────────────────────────────────────
 
     public int getBaseColorId() {
@@ -163,17 +187,61 @@ public class NationFlag {
         return layers.size();
     }
 
+    /**
+     * A key identifying this flag's appearance: equal flags have equal hashes.
+     * Flags made only of {@link #PATTERN_CODES} are packed exactly (base colour,
+     * layer count, then 5-bit pattern index + 4-bit colour per layer), so two
+     * different such flags never collide. A flag with an unknown pattern code
+     * sets the top bit and mixes the code strings in instead.
+     */
+    public long contentHash() {
+        if (hashValid)
+            return hash;
+        long h = baseColorId | (long) layers.size() << 4;
+        int shift = 7;
+        boolean exact = true;
+        for (Layer l : layers) {
+            int index = Arrays.asList(PATTERN_CODES).indexOf(l.patternCode);
+            if (index < 0) {
+                exact = false;
+                break;
+            }
+            h |= (long) (index << 4 | l.colorId) << shift;
+            shift += 9;
+        }
+        if (!exact) {
+            h = baseColorId;
+            for (Layer l : layers)
+                h = h * 31 + l.patternCode.hashCode() * 17L + l.colorId;
+            h |= Long.MIN_VALUE;
+        }
+        hash = h;
+        hashValid = true;
+        return h;
+    }
+
     // ── Rendering helper ─────────────────────────────────────────────────────────
 
+    /**
+     * This flag as a banner stack, built once and reused until the flag is
+     * changed. Callers must not modify the returned stack.
+     */
+    public ItemStack getBannerStack() {
+        if (bannerStack == null)
+            bannerStack = buildBannerStack();
+        return bannerStack;
+    }
+
     /**
      * Builds an {@link ItemStack} representing this flag as a Minecraft banner.
      * The stack has the appropriate base-colour banner item and
      * {@code BlockEntityTag}
-     * NBT with all overlay patterns applied.
+     * NBT with all overlay patterns applied. Always a fresh stack; renderers
+     * use {@link #getBannerStack()}.
      */
     public ItemStack buildBannerStack() {
         int idx = Math.max(0, Math.min(15, baseColorId));
-        ItemStack stack = new ItemStack(BANNER_ITEMS[idx]);
+        ItemStack stack = new ItemStack(BannerItems.BY_COLOR[idx]);
 
         if (!layers.isEmpty()) {
             ListTag patternList = new ListTag();
@@ -213,6 +281,38 @@ public class NationFlag {
         return flag;
     }
 
+    // ── FriendlyByteBuf helpers (used by packets) ─────────────────────────────────
+
+    /**
+     * Layer count and base colour share one byte; each layer is its pattern's
+     * index in {@link #PATTERN_CODES} plus its colour. Unknown patterns fall
+     * back to index 255 followed by the code itself.
+     */
+    public void toBuf(FriendlyByteBuf buf) {
+        buf.writeByte(layers.size() << 4 | baseColorId);
+        for (Layer l : layers) {
+            int index = Arrays.asList(PATTERN_CODES).indexOf(l.patternCode);
+            buf.writeByte(index < 0 ? 255 : index);
+            if (index < 0)
+                buf.writeUtf(l.patternCode);
+            buf.writeByte(l.colorId);
+        }
+    }
+
+    public static NationFlag fromBuf(FriendlyByteBuf buf) {
+        int head = buf.readUnsignedByte();
+        NationFlag flag = new NationFlag(head & 0xF);
+        int count = head >> 4;
+        for (int i = 0; i < count; i++) {
+            int index = buf.readUnsignedByte();
+            String code = index == 255 ? buf.readUtf() : PATTERN_CODES[index];
+            Layer layer = new Layer(code, buf.readUnsignedByte());
+            if (i < MAX_LAYERS)
+                flag.layers.add(layer);
+        }
+        return flag;
+    }
+
     // ── Validation ───────────────────────────────────────────────────────────────
 
     public static boolean isValidPattern(String code) {
@@ -0,0 +1,98 @@
+package dev.nationsforge.nation;
+
+import dev.nationsforge.NationsForge;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.NbtIo;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Append-only write-ahead journal next to {@code nationsforge_nations.dat}.
+ *
+ * Each record is one uncompressed NBT compound carrying a sequence number and
+ * an operation (see {@link NationSavedData} for the operations and their
+ * replay). Appends run on the {@link NationPersistence} thread and are fsynced
+ * one by one, so a crash between autosaves loses at most the operations still
+ * queued. When a compacted .dat has been written the journal is deleted; since
+ * both go through the same single-threaded executor, every record appended
+ * after the snapshot was taken lands in the fresh journal.
+ */
+final class NationJournal {
+
+    private final Path path;
+    /** Records appended since the last compaction (server thread). */
+    private int size = 0;
+
+    NationJournal(Path path) {
+        this.path = path;
+    }
+
+    /**
+     * Reads every complete record. A torn record at the end — a crash mid-append
+     * — ends the read instead of failing the load.
+     */
+    List<CompoundTag> readAll() {
+        List<CompoundTag> records = new ArrayList<>();
+        if (!Files.exists(path))
+            return records;
+        try (InputStream in = Files.newInputStream(path);
+                DataInputStream data = new DataInputStream(new BufferedInputStream(in))) {
+            while (true) {
+                records.add(NbtIo.read(data));
+            }
+        } catch (EOFException e) {
+            // end of journal (or a torn tail record)
+        } catch (IOException e) {
+            NationsForge.LOGGER.warn("[Dominion/Journal] Stopped reading {} after {} records", path,
+                    records.size(), e);
+        }
+        size = records.size();
+        return records;
+    }
+
+    /** Queues a record for appending. {@code record} must not be modified afterwards. */
+    void append(CompoundTag record) {
+        size++;
+        NationPersistence.submit(() -> {
+            try (FileOutputStream out = new FileOutputStream(path.toFile(), true)) {
+                DataOutputStream data = new DataOutputStream(out);
+                NbtIo.write(record, data);
+                data.flush();
+                out.getFD().sync();
+            } catch (IOException e) {
+                NationsForge.LOGGER.error("[Dominion/Journal] Could not append to {}", path, e);
+            }
+        });
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Called on the server thread when a snapshot is taken for compaction; the
+     * records it covers no longer count towards the next one.
+     */
+    void markCompacting() {
+        size = 0;
+    }
+
+    /** Deletes the journal. Must run on the persistence thread after the .dat write. */
+    void truncate() {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            NationsForge.LOGGER.error("[Dominion/Journal] Could not truncate {}", path, e);
+        }
+    }
+}
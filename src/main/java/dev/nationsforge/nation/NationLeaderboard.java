@@ -0,0 +1,183 @@
+package dev.nationsforge.nation;
+
+import dev.nationsforge.network.PacketHandler;
+import dev.nationsforge.network.PreEncodedPacket;
+import dev.nationsforge.network.packet.S2CLeaderboardPacket;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerPlayer;
+
+import java.util.*;
+
+/**
+ * Server-side nation ranking by score, kept in order as scores change.
+ *
+ * {@link NationPowerCalculator#recalculate} reports every score change here;
+ * the nation is moved to its new position with a binary search instead of
+ * re-sorting everything. After each sync broadcast, {@link #broadcast} sends the
+ * top {@value #TOP_K} to clients as an {@link S2CLeaderboardPacket}, along with
+ * each player's own nation's rank, so clients never sort. Each entry carries the
+ * nation's last rank movement, so the GUI can show ▲/▼ arrows that hold until
+ * the nation moves again.
+ *
+ * Packets go only to players whose view changed: everyone when the top list or
+ * the number of ranked nations changed, otherwise just those whose own rank
+ * moved.
+ */
+public final class NationLeaderboard {
+
+    /** Number of nations sent to clients. */
+    public static final int TOP_K = 100;
+
+    /** One leaderboard row. {@code rankDelta} > 0 means the nation last moved up that many places. */
+    public record Entry(UUID nationId, long score, int rankDelta) {
+    }
+
+    /** nation → score the nation is currently filed under in {@link #order}. */
+    private static final Map<UUID, Long> scores = new HashMap<>();
+    /** Nations by score descending, then id; index + 1 is the rank. */
+    private static final List<UUID> order = new ArrayList<>();
+    private static final Comparator<UUID> RANKING = (a, b) -> {
+        int c = Long.compare(scores.get(b), scores.get(a));
+        return c != 0 ? c : a.compareTo(b);
+    };
+
+    /** nation → rank (1-based) at the last broadcast. */
+    private static final Map<UUID, Integer> lastRanks = new HashMap<>();
+    /** nation → rank change at its last movement. */
+    private static final Map<UUID, Integer> lastMoves = new HashMap<>();
+    /** Top list as last sent. */
+    private static List<Entry> lastTop = List.of();
+    /** Number of ranked nations as last sent. */
+    private static int lastTotal = 0;
+    /** player → own-nation rank last sent to them (0 = no nation / unranked). */
+    private static final Map<UUID, Integer> sentRanks = new HashMap<>();
+    private static boolean changed = false;
+
+    private NationLeaderboard() {
+    }
+
+    // ── Maintenance ──────────────────────────────────────────────────────────────
+
+    /** Files the nation under its current score. O(log n) search plus an array shift. */
+    public static void update(Nation nation) {
+        UUID id = nation.getId();
+        long score = nation.getScore();
+        Long old = scores.get(id);
+        if (old != null) {
+            if (old == score)
+                return;
+            order.remove(Collections.binarySearch(order, id, RANKING));
+        }
+        scores.put(id, score);
+        order.add(-Collections.binarySearch(order, id, RANKING) - 1, id);
+        changed = true;
+    }
+
+    public static void remove(UUID nationId) {
+        if (!scores.containsKey(nationId))
+            return;
+        order.remove(Collections.binarySearch(order, nationId, RANKING));
+        scores.remove(nationId);
+        lastRanks.remove(nationId);
+        lastMoves.remove(nationId);
+        changed = true;
+    }
+
+    /** Rebuilds the ranking from scratch — called once the world's nations are loaded. */
+    public static void rebuild(Collection<Nation> nations) {
+        scores.clear();
+        order.clear();
+        for (Nation nation : nations) {
+            scores.put(nation.getId(), nation.getScore());
+            order.add(nation.getId());
+        }
+        order.sort(RANKING);
+        changed = true;
+    }
+
+    /** Forget all state — called on server stop so a new world starts clean. */
+    public static void reset() {
+        scores.clear();
+        order.clear();
+        lastRanks.clear();
+        lastMoves.clear();
+        lastTop = List.of();
+        lastTotal = 0;
+        sentRanks.clear();
+        changed = false;
+    }
+
+    /** Drop what was sent to a player — called on logout. */
+    public static void forget(UUID playerId) {
+        sentRanks.remove(playerId);
+    }
+
+    // ── Queries ──────────────────────────────────────────────────────────────────
+
+    /** 1-based rank of the nation, or 0 if it is not ranked. */
+    public static int rankOf(UUID nationId) {
+        if (!scores.containsKey(nationId))
+            return 0;
+        return Collections.binarySearch(order, nationId, RANKING) + 1;
+    }
+
+    public static int size() {
+        return order.size();
+    }
+
+    // ── Sync ─────────────────────────────────────────────────────────────────────
+
+    /**
+     * Sends the leaderboard to every online player whose view of it changed
+     * since the last call. Cheap when nothing was re-ranked.
+     */
+    public static void broadcast(MinecraftServer server, NationSavedData data) {
+        if (!changed)
+            return;
+        changed = false;
+
+        // Record movements since the last broadcast
+        for (int i = 0; i < order.size(); i++) {
+            UUID id = order.get(i);
+            Integer before = lastRanks.put(id, i + 1);
+            if (before != null && before != i + 1)
+                lastMoves.put(id, before - (i + 1));
+        }
+
+        List<Entry> top = top();
+        // The packet also carries the total, which can change below the top list
+        boolean topChanged = !top.equals(lastTop) || order.size() != lastTotal;
+        lastTop = top;
+        lastTotal = order.size();
+        byte[] encodedTop = PreEncodedPacket.encodeBytes(buf -> S2CLeaderboardPacket.writeEntries(buf, top));
+
+        Map<UUID, UUID> playerNation = data.getPlayerNationMap();
+        for (ServerPlayer player : server.getPlayerList().getPlayers()) {
+            UUID nationId = playerNation.get(player.getUUID());
+            int rank = nationId == null ? 0 : rankOf(nationId);
+            Integer sent = sentRanks.get(player.getUUID());
+            if (!topChanged && sent != null && sent == rank)
+                continue;
+            sentRanks.put(player.getUUID(), rank);
+            PacketHandler.sendToPlayer(new S2CLeaderboardPacket(top, encodedTop, order.size(), rank), player);
+        }
+    }
+
+    /** Sends the current leaderboard to one player (login / resync). */
+    public static void sendTo(ServerPlayer player, NationSavedData data) {
+        UUID nationId = data.getPlayerNationMap().get(player.getUUID());
+        int rank = nationId == null ? 0 : rankOf(nationId);
+        sentRanks.put(player.getUUID(), rank);
+        PacketHandler.sendToPlayer(new S2CLeaderboardPacket(lastTop, null, order.size(), rank), player);
+    }
+
+    private static List<Entry> top() {
+        int n = Math.min(TOP_K, order.size());
+        List<Entry> top = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            UUID id = order.get(i);
+            top.add(new Entry(id, scores.get(id), lastMoves.getOrDefault(id, 0)));
+        }
+        return List.copyOf(top);
+    }
+}
@@ -1,16 +1,19 @@
 package dev.nationsforge.nation;
 
+import dev.nationsforge.NationsConfig;
 import dev.nationsforge.event.NationCreatedEvent;
 import dev.nationsforge.event.NationDisbandedEvent;
 import dev.nationsforge.event.NationRelationChangedEvent;
 import dev.nationsforge.event.PlayerJoinedNationEvent;
 import dev.nationsforge.event.PlayerLeftNationEvent;
 import dev.nationsforge.bot.BotNationAI;
+import dev.nationsforge.integration.ftbchunks.FTBChunksHelper;
 import dev.nationsforge.integration.ftbteams.FTBTeamsHelper;
 import dev.nationsforge.item.ModItems;
+import dev.nationsforge.network.NationSyncScheduler;
+import dev.nationsforge.network.NationSyncTracker;
 import dev.nationsforge.network.PacketHandler;
 import dev.nationsforge.network.packet.S2CDiplomacyNotifyPacket;
-import dev.nationsforge.network.packet.S2CNationsDataPacket;
 import net.minecraftforge.common.MinecraftForge;
 import net.minecraft.network.chat.Component;
 import net.minecraft.server.MinecraftServer;
@@ -23,7 +26,7 @@ import java.util.*;
 /**
  * High-level business logic for NationsForge.
  * All public methods validate invariants, mutate {@link NationSavedData}, then
- * broadcast the updated state to all online players.
+ * broadcast the changes to all online players.
  */
 public class NationManager {
 
@@ -82,8 +85,10 @@ public class NationManager {
             return Result.TAG_TAKEN;
 
         Nation nation = data.createNation(name, tag.toUpperCase(), colour, founderId);
-        if (description != null && !description.isBlank())
+        if (description != null && !description.isBlank()) {
             nation.setDescription(description);
+            data.logSettings(nation);
+        }
 
         // Sync to FTB Teams: create server team + add founder
         FTBTeamsHelper.onNationCreated(server, nation);
@@ -116,27 +121,23 @@ public class NationManager {
 
         String nationName = nation.getName();
         String nationTag = nation.getTag();
-        List<UUID> formerMembers = new ArrayList<>(nation.getMembers().keySet());
+        List<ServerPlayer> onlineMembers = List.copyOf(NationPresence.onlineMembers(nation.getId()));
 
         // Remove FTB team before data is gone
         FTBTeamsHelper.onNationDisbanded(server, nationTag);
 
         // Fire events before we wipe the data
         MinecraftForge.EVENT_BUS.post(new NationDisbandedEvent(nation.getId(), nationName, nationTag, server));
-        for (UUID memberId : formerMembers) {
-            ServerPlayer sp = server.getPlayerList().getPlayer(memberId);
-            if (sp != null)
-                MinecraftForge.EVENT_BUS
-                        .post(new PlayerLeftNationEvent(sp, nation, PlayerLeftNationEvent.Reason.DISBANDED));
-        }
+        for (ServerPlayer sp : onlineMembers)
+            MinecraftForge.EVENT_BUS
+                    .post(new PlayerLeftNationEvent(sp, nation, PlayerLeftNationEvent.Reason.DISBANDED));
 
         data.removeNation(nation.getId());
 
         broadcastAll(server);
-        for (UUID member : formerMembers) {
-            notifyPlayer(server, member, Component.literal(
-                    "§c✦ Nation §7" + nationName + "§c has been disbanded."));
-        }
+        Component disbanded = Component.literal("§c✦ Nation §7" + nationName + "§c has been disbanded.");
+        for (ServerPlayer sp : onlineMembers)
+            sp.sendSystemMessage(disbanded);
         return Result.SUCCESS;
     }
 
@@ -229,7 +230,7 @@ public class NationManager {
             return Result.ALREADY_IN_NATION;
 
         nation.addInvite(targetId);
-        data.setDirty();
+        data.logInvite(nation, targetId);
         broadcastAll(server);
         notifyPlayer(server, targetId, Component.literal(
                 "§aYou have been invited to join §7[" + nation.getTag() + "] " + nation.getName()
@@ -270,8 +271,9 @@ public class NationManager {
         nation.setRank(targetId, newRank);
         if (newRank == NationRank.SOVEREIGN) {
             nation.setLeaderId(targetId);
+            data.logRank(nation, requesterId);
         }
-        data.setDirty();
+        data.logRank(nation, targetId);
         broadcastAll(server);
         notifyPlayer(server, targetId, Component.literal(
                 "§aYour rank in §7" + nation.getName() + "§a is now §7" + newRank.displayName + "§a."));
@@ -351,7 +353,7 @@ public class NationManager {
                 RelationType oldType = nationA.getRelationWith(targetNationId);
                 nationA.setRelation(targetNationId, proposedType, "Bot accepted");
                 nationB.setRelation(nationA.getId(), proposedType, "Bot accepted");
-                data.setDirty();
+                data.logRelation(nationA, nationB);
                 broadcastAll(server);
                 MinecraftForge.EVENT_BUS.post(new NationRelationChangedEvent(
                         nationA, nationB, oldType, proposedType, server));
@@ -418,7 +420,7 @@ public class NationManager {
             RelationType newType = req.getProposedType();
             fromNation.setRelation(responderNation.getId(), newType, "Diplomatic agreement");
             responderNation.setRelation(fromNation.getId(), newType, "Diplomatic agreement");
-            data.setDirty();
+            data.logRelation(fromNation, responderNation);
             broadcastAll(server);
             MinecraftForge.EVENT_BUS.post(new NationRelationChangedEvent(
                     fromNation, responderNation, oldType, newType, server));
@@ -430,7 +432,6 @@ public class NationManager {
                     "§7[§aDiplomacy§7] Agreement with §f" + fromNation.getName()
                     + "§7: §r" + coloured(newType.displayName, newType.colour & 0xFFFFFF) + "§7."));
         } else {
-            data.setDirty();
             String rm = (responseMessage != null && !responseMessage.isBlank())
                     ? " §7(\"" + responseMessage + "\")" : "";
             notifyNation(server, fromNation, Component.literal(
@@ -485,7 +486,7 @@ public class NationManager {
         // Set relation on both sides
         nationA.setRelation(targetNationId, type, reason);
         nationB.setRelation(nationA.getId(), type, reason);
-        data.setDirty();
+        data.logRelation(nationA, nationB);
 
         broadcastAll(server);
         MinecraftForge.EVENT_BUS.post(new NationRelationChangedEvent(nationA, nationB, oldType, type, server));
@@ -517,7 +518,7 @@ public class NationManager {
                 return Result.INVALID_NAME;
             if (data.isNameTaken(newName))
                 return Result.NAME_TAKEN;
-            nation.setName(newName);
+            data.renameNation(nation, newName);
         }
         if (newTag != null && !newTag.equalsIgnoreCase(nation.getTag())) {
             if (newTag.length() < TAG_MIN || newTag.length() > TAG_MAX
@@ -525,13 +526,15 @@ public class NationManager {
                 return Result.INVALID_NAME;
             if (data.isTagTaken(newTag))
                 return Result.TAG_TAKEN;
-            nation.setTag(newTag.toUpperCase());
+            FTBChunksHelper.invalidateTeamId(nation.getTag());
+            data.retagNation(nation, newTag.toUpperCase());
+            FTBChunksHelper.invalidateTeamId(nation.getTag());
         }
         nation.setColour(newColour);
         if (newDesc != null)
             nation.setDescription(newDesc);
         nation.setOpenRecruitment(open);
-        data.setDirty();
+        data.logSettings(nation);
         broadcastAll(server);
         return Result.SUCCESS;
     }
@@ -547,7 +550,7 @@ public class NationManager {
         if (!nation.getRank(requesterId).canEditSettings())
             return Result.NO_PERMISSION;
         nation.setFlag(flag);
-        data.setDirty();
+        data.logFlag(nation);
         broadcastAll(server);
         return Result.SUCCESS;
     }
@@ -597,7 +600,7 @@ public class NationManager {
         }
 
         nation.addTreasury(amount);
-        data.setDirty();
+        data.logTreasury(nation, amount);
         broadcastAll(server);
         notifyPlayer(server, playerId, Component.literal(
                 "§aDeposited §6" + amount + " §acoins into §f[" + nation.getTag() + "] "
@@ -630,7 +633,7 @@ public class NationManager {
             return Result.NOT_IN_NATION;
 
         nation.addTreasury(-amount);
-        data.setDirty();
+        data.logTreasury(nation, -amount);
 
         // Give coins in 64-stacks
         int rem = amount;
@@ -649,14 +652,48 @@ public class NationManager {
         return Result.SUCCESS;
     }
 
-    /** Push the pending-request list for a nation to all its online members. */
+    /**
+     * Expire diplomacy requests left unanswered past their time-to-live, tell
+     * both nations and refresh their pending lists. Driven from the server tick.
+     */
+    public static void expireDiplomacyRequests(MinecraftServer server) {
+        NationSavedData data = getData(server);
+        List<DiplomacyRequest> expired = data.expireDiplomacyRequests(System.currentTimeMillis());
+        if (expired.isEmpty())
+            return;
+        Set<Nation> touched = new LinkedHashSet<>();
+        for (DiplomacyRequest req : expired) {
+            Optional<Nation> from = data.getNationById(req.getFromNationId());
+            Optional<Nation> to = data.getNationById(req.getToNationId());
+            RelationType type = req.getProposedType();
+            from.ifPresent(n -> {
+                touched.add(n);
+                notifyNation(server, n, Component.literal("§7[§eDiplomacy§7] Your ")
+                        .append(coloured(type.displayName, type.colour & 0xFFFFFF))
+                        .append(Component.literal("§7 proposal to §f"
+                                + to.map(Nation::getName).orElse("?") + "§7 expired unanswered.")));
+            });
+            to.ifPresent(n -> {
+                touched.add(n);
+                notifyNation(server, n, Component.literal("§7[§eDiplomacy§7] The ")
+                        .append(coloured(type.displayName, type.colour & 0xFFFFFF))
+                        .append(Component.literal("§7 proposal from §f"
+                                + from.map(Nation::getName).orElse("?") + "§7 has expired.")));
+            });
+        }
+        for (Nation nation : touched)
+            pushDiplomacyToNation(server, data, nation);
+    }
+
+    /**
+     * Push the pending-request list for a nation to all its online members.
+     * The packet is encoded once and reused for every member.
+     */
     public static void pushDiplomacyToNation(MinecraftServer server, NationSavedData data, Nation nation) {
         List<DiplomacyRequest> list = data.getAllRequestsForNation(nation.getId());
         S2CDiplomacyNotifyPacket pkt = new S2CDiplomacyNotifyPacket(list);
-        for (UUID uid : nation.getMembers().keySet()) {
-            ServerPlayer sp = server.getPlayerList().getPlayer(uid);
-            if (sp != null) PacketHandler.sendToPlayer(pkt, sp);
-        }
+        for (ServerPlayer sp : NationPresence.onlineMembers(nation.getId()))
+            PacketHandler.sendToPlayer(pkt, sp);
     }
 
     /** Push pending requests to a single player (used on login). */
@@ -675,18 +712,48 @@ public class NationManager {
         return NationSavedData.get(server.getLevel(Level.OVERWORLD));
     }
 
-    /** Push complete nation data to all online players. */
+    /**
+     * Schedule a sync of whatever changed since the last broadcast. With
+     * {@link NationsConfig#COALESCE_BROADCASTS} on (the default) this only marks
+     * the state dirty and {@link NationSyncScheduler} flushes once at the end of
+     * the tick, so bursts of mutations produce a single broadcast.
+     */
     public static void broadcastAll(MinecraftServer server) {
-        S2CNationsDataPacket packet = S2CNationsDataPacket.create(getData(server));
-        for (ServerPlayer player : server.getPlayerList().getPlayers()) {
-            PacketHandler.sendToPlayer(packet, player);
-        }
+        if (NationsConfig.COALESCE_BROADCASTS.get())
+            NationSyncScheduler.markDirty();
+        else
+            broadcastNow(server);
+    }
+
+    /**
+     * Push whatever changed since the last broadcast to all online players right
+     * away. Only the affected nations / player mappings are sent (see
+     * {@link NationSyncTracker}). Use for latency-sensitive callers.
+     */
+    public static void broadcastNow(MinecraftServer server) {
+        NationSyncScheduler.reset();
+        NationSavedData data = getData(server);
+        NationSyncTracker.broadcastChanges(server, data);
+        NationLeaderboard.broadcast(server, data);
     }
 
-    /** Push complete nation data to a single player (e.g. on join). */
+    /**
+     * Push a complete snapshot to a single player (e.g. on join or resync).
+     * Pending changes are flushed to everyone else first so the snapshot and
+     * the delta stream agree.
+     */
     public static void syncToPlayer(MinecraftServer server, ServerPlayer player) {
-        S2CNationsDataPacket packet = S2CNationsDataPacket.create(getData(server));
-        PacketHandler.sendToPlayer(packet, player);
+        broadcastNow(server);
+        PacketHandler.sendToPlayer(NationSyncTracker.createSnapshot(player, getData(server)), player);
+        NationLeaderboard.sendTo(player, getData(server));
+    }
+
+    /**
+     * The player opened (or closed, {@code nationId == null}) a nation in the
+     * Browse tab; sync it to them in full detail.
+     */
+    public static void inspectNation(MinecraftServer server, ServerPlayer player, UUID nationId) {
+        NationSyncTracker.inspect(player, nationId);
     }
 
     private static void notifyPlayer(MinecraftServer server, UUID playerId, Component msg) {
@@ -696,15 +763,15 @@ public class NationManager {
     }
 
     private static void notifyNation(MinecraftServer server, Nation nation, Component msg) {
-        for (UUID uid : nation.getMembers().keySet()) {
-            notifyPlayer(server, uid, msg);
-        }
+        for (ServerPlayer sp : NationPresence.onlineMembers(nation.getId()))
+            sp.sendSystemMessage(msg);
     }
 
     private static void notifyLeadership(MinecraftServer server, Nation nation, Component msg) {
-        for (Map.Entry<UUID, NationRank> e : nation.getMembers().entrySet()) {
-            if (e.getValue().isLeadership())
-                notifyPlayer(server, e.getKey(), msg);
+        for (ServerPlayer sp : NationPresence.onlineMembers(nation.getId())) {
+            NationRank rank = nation.getMembers().get(sp.getUUID());
+            if (rank != null && rank.isLeadership())
+                sp.sendSystemMessage(msg);
         }
     }
 
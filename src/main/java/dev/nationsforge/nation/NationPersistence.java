@@ -0,0 +1,96 @@
+package dev.nationsforge.nation;
+
+import dev.nationsforge.NationsForge;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.NbtIo;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Background writer for {@link NationSavedData}.
+ *
+ * The server thread only captures a detached copy of the data; serialising it
+ * to NBT, compressing, writing and fsyncing happen here on a single daemon
+ * thread, so writes land in submission order. Each write goes to a temporary
+ * file next to the target which is then atomically renamed over it, so a crash
+ * mid-write leaves the previous file intact.
+ */
+public final class NationPersistence {
+
+    private static final ExecutorService EXECUTOR = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "Dominion-Persistence");
+        t.setDaemon(true);
+        return t;
+    });
+
+    /** Most recently submitted task; awaited on shutdown. */
+    private static volatile Future<?> lastWrite = null;
+
+    private NationPersistence() {
+    }
+
+    /**
+     * Queues a write of the tag produced by {@code content} to {@code target}.
+     * {@code content} runs on the persistence thread and must only touch data
+     * that is no longer shared with the server thread.
+     *
+     * @param afterWrite run on the persistence thread once the file is in place
+     * @param onFailure  run on the persistence thread if the write fails
+     */
+    public static void write(File target, Supplier<CompoundTag> content, Runnable afterWrite, Runnable onFailure) {
+        submit(() -> {
+            try {
+                writeAtomically(target.toPath(), content.get());
+            } catch (Exception e) {
+                NationsForge.LOGGER.error("[Dominion/Persistence] Could not save {}", target, e);
+                onFailure.run();
+                return;
+            }
+            afterWrite.run();
+        });
+    }
+
+    /** Runs {@code task} on the persistence thread, after everything queued before it. */
+    public static void submit(Runnable task) {
+        lastWrite = EXECUTOR.submit(task);
+    }
+
+    /**
+     * Blocks until every queued write has finished — called on server stop so
+     * the world is fully on disk before it can be reopened.
+     */
+    public static void awaitPending() {
+        Future<?> pending = lastWrite;
+        if (pending == null)
+            return;
+        try {
+            pending.get(30, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            NationsForge.LOGGER.error("[Dominion/Persistence] Pending save did not complete", e);
+        }
+    }
+
+    private static void writeAtomically(Path target, CompoundTag tag) throws IOException {
+        Path tmp = target.resolveSibling(target.getFileName() + ".tmp");
+        try (FileOutputStream out = new FileOutputStream(tmp.toFile())) {
+            NbtIo.writeCompressed(tag, out);
+            out.getFD().sync();
+        }
+        try {
+            Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
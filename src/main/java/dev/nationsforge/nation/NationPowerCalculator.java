@@ -44,12 +44,22 @@ public final class NationPowerCalculator {
 
     /**
      * Computes and caches the power of one nation.
-     * Also updates {@link Nation#setScore(long)} so the server-side leaderboard
-     * stays in sync.
+     * Also updates {@link Nation#setScore(long)} and files the nation in
+     * {@link NationLeaderboard} so the server-side leaderboard stays in sync.
      *
-     * @return the newly computed power value
+     * Nations whose inputs have not changed since the last call (and whose age
+     * bonus has not ticked over to a new day) keep their cached power, and the
+     * diplomacy terms read the nation's per-type relation counters, so a call
+     * is O(1) either way.
+     *
+     * @return the current power value
      */
     public static long recalculate(Nation nation) {
+        long ageMs = System.currentTimeMillis() - nation.getCreatedAt();
+        long ageDays = TimeUnit.MILLISECONDS.toDays(ageMs);
+        if (!nation.needsPowerRecalculation(ageDays))
+            return nation.getPower();
+
         long power = 0;
 
         // Members
@@ -59,12 +69,9 @@ public final class NationPowerCalculator {
         power += nation.getTerritory() * PER_CHUNK;
 
         // Diplomacy
-        long alliances = nation.getRelations().values().stream()
-                .filter(r -> r.getType() == RelationType.ALLIANCE).count();
-        long trades = nation.getRelations().values().stream()
-                .filter(r -> r.getType() == RelationType.TRADE_PACT).count();
-        long wars = nation.getRelations().values().stream()
-                .filter(r -> r.getType() == RelationType.WAR).count();
+        long alliances = nation.countRelations(RelationType.ALLIANCE);
+        long trades = nation.countRelations(RelationType.TRADE_PACT);
+        long wars = nation.countRelations(RelationType.WAR);
 
         power += alliances * PER_ALLIANCE;
         power += trades * PER_TRADE;
@@ -74,14 +81,14 @@ public final class NationPowerCalculator {
         power += nation.getTreasury() / TREASURY_DIVISOR;
 
         // Longevity bonus
-        long ageMs = System.currentTimeMillis() - nation.getCreatedAt();
-        long ageDays = TimeUnit.MILLISECONDS.toDays(ageMs);
         power += ageDays * PER_AGE_DAY;
 
         power = Math.max(0, power);
 
         nation.setPower(power);
         nation.setScore(power); // keep score in sync for backwards-compat display
+        nation.markPowerClean(ageDays);
+        NationLeaderboard.update(nation);
 
         return power;
     }
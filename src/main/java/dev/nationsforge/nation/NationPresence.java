@@ -0,0 +1,99 @@
+package dev.nationsforge.nation;
+
+import net.minecraft.server.level.ServerPlayer;
+
+import javax.annotation.Nullable;
+import java.util.*;
+
+/**
+ * Index of online players by nation.
+ *
+ * Filled from login / logout / respawn events (see
+ * {@link dev.nationsforge.event.NationServerEvents}) and kept current by
+ * {@link NationSavedData} whenever an online player joins or leaves a nation.
+ * Income, chat notifications and packet fan-out iterate only a nation's online
+ * members, rather than looking up every member in the player list.
+ */
+public final class NationPresence {
+
+    /** nation → online members (player id → player). */
+    private static final Map<UUID, Map<UUID, ServerPlayer>> byNation = new HashMap<>();
+    /** online player → nation they are filed under (null value if none). */
+    private static final Map<UUID, UUID> nationOf = new HashMap<>();
+    /** online player → current player object (replaced on respawn). */
+    private static final Map<UUID, ServerPlayer> online = new HashMap<>();
+
+    private NationPresence() {
+    }
+
+    // ── Events ───────────────────────────────────────────────────────────────────
+
+    /** A player logged in, or respawned as a new player object. */
+    public static void login(ServerPlayer player, @Nullable UUID nationId) {
+        logout(player.getUUID());
+        online.put(player.getUUID(), player);
+        file(player, nationId);
+    }
+
+    public static void logout(UUID playerId) {
+        if (online.remove(playerId) != null)
+            unfile(playerId);
+    }
+
+    /** An online or offline player's nation changed; a no-op for offline players. */
+    static void moved(UUID playerId, @Nullable UUID nationId) {
+        ServerPlayer player = online.get(playerId);
+        if (player == null)
+            return;
+        unfile(playerId);
+        file(player, nationId);
+    }
+
+    /** A nation was disbanded; its online members no longer belong to a nation. */
+    static void nationRemoved(UUID nationId) {
+        Map<UUID, ServerPlayer> members = byNation.remove(nationId);
+        if (members != null)
+            for (UUID playerId : members.keySet())
+                nationOf.put(playerId, null);
+    }
+
+    /** Forget everything — called on server stop. */
+    public static void reset() {
+        byNation.clear();
+        nationOf.clear();
+        online.clear();
+    }
+
+    // ── Queries ──────────────────────────────────────────────────────────────────
+
+    /** The nation's online members (read-only view; do not mutate nations while iterating it). */
+    public static Collection<ServerPlayer> onlineMembers(UUID nationId) {
+        Map<UUID, ServerPlayer> members = byNation.get(nationId);
+        return members == null ? List.of() : Collections.unmodifiableCollection(members.values());
+    }
+
+    public static int onlineCount(UUID nationId) {
+        Map<UUID, ServerPlayer> members = byNation.get(nationId);
+        return members == null ? 0 : members.size();
+    }
+
+    // ── Internals ────────────────────────────────────────────────────────────────
+
+    private static void file(ServerPlayer player, @Nullable UUID nationId) {
+        nationOf.put(player.getUUID(), nationId);
+        if (nationId != null)
+            byNation.computeIfAbsent(nationId, k -> new HashMap<>()).put(player.getUUID(), player);
+    }
+
+    private static void unfile(UUID playerId) {
+        UUID nationId = nationOf.remove(playerId);
+        if (nationId == null)
+            return;
+        Map<UUID, ServerPlayer> members = byNation.get(nationId);
+        if (members != null) {
+            members.remove(playerId);
+            if (members.isEmpty())
+                byNation.remove(nationId);
+        }
+    }
+}
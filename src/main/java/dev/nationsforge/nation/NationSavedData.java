@@ -1,17 +1,32 @@
 package dev.nationsforge.nation;
 
+import dev.nationsforge.NationsConfig;
+import dev.nationsforge.NationsForge;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.NbtUtils;
 import net.minecraft.nbt.Tag;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.level.saveddata.SavedData;
+import net.minecraft.world.level.storage.LevelResource;
 
+import java.io.File;
 import java.util.*;
 import java.util.stream.Collectors;
 
 /**
  * Persistent server-side storage for all Nations.
  * Saved in the world's data folder as "nationsforge_nations.dat".
+ *
+ * Player, admin, economy and bot AI operations are additionally appended to a
+ * {@link NationJournal} ("nationsforge_nations.journal") as they happen
+ * instead of only marking the whole file dirty. Derived values (player
+ * territory, power, score) are recomputed rather than journalled; bot world
+ * generation and the pending bot territory still mark the whole file dirty. The .dat records the sequence
+ * number of the last journal record it already contains; on load every later
+ * record is replayed, and once the journal grows past
+ * {@link NationsConfig#JOURNAL_COMPACT_THRESHOLD} the next save rewrites the
+ * .dat and clears it.
  */
 public class NationSavedData extends SavedData {
 
@@ -21,27 +36,53 @@ public class NationSavedData extends SavedData {
     private final Map<UUID, Nation> nations = new LinkedHashMap<>();
     /** player UUID → nation UUID mapping for O(1) lookups. */
     private final Map<UUID, UUID> playerNation = new HashMap<>();
+    /** Lower-cased name → nation UUID, for case-insensitive lookups. */
+    private final Map<String, UUID> nameIndex = new HashMap<>();
+    /** Lower-cased tag → nation UUID. */
+    private final Map<String, UUID> tagIndex = new HashMap<>();
+    /** Lower-cased name → display name, sorted for prefix (tab-completion) lookups. */
+    private final NavigableMap<String, String> namePrefixIndex = new TreeMap<>();
     /** Whether the world's bot nations have been generated yet. */
     private boolean worldBotGenerated = false;
-    /** Pending diplomacy requests, keyed by request UUID. */
-    private final Map<UUID, DiplomacyRequest> pendingRequests = new LinkedHashMap<>();
+    /** Bot nation → claim radius, for bots whose starting territory is not claimed yet. */
+    private final Map<UUID, Integer> pendingBotTerritory = new LinkedHashMap<>();
+    /** Pending diplomacy requests, indexed by id, sender, target and nation pair. */
+    private final DiplomacyRequestStore pendingRequests = new DiplomacyRequestStore();
+    /** Set by the persistence thread when a write failed, so the next save retries. */
+    private volatile boolean retrySave = false;
+    /** Attached on first {@link #get}; null until then. */
+    private NationJournal journal = null;
+    /** Sequence number of the last journal record applied to this data. */
+    private long journalSeq = 0;
 
     // ── Factory ──────────────────────────────────────────────────────────────────
 
     public static NationSavedData get(ServerLevel level) {
-        return level.getDataStorage().computeIfAbsent(
+        NationSavedData data = level.getDataStorage().computeIfAbsent(
                 NationSavedData::load,
                 NationSavedData::new,
                 DATA_NAME);
+        if (data.journal == null) {
+            data.attachJournal(new NationJournal(level.getServer().getWorldPath(LevelResource.ROOT)
+                    .resolve("data").resolve(DATA_NAME + ".journal")));
+        }
+        return data;
     }
 
     private static NationSavedData load(CompoundTag tag) {
         NationSavedData data = new NationSavedData();
         data.worldBotGenerated = tag.getBoolean("worldBotGenerated");
+        data.journalSeq = tag.getLong("journalSeq");
+        ListTag pending = tag.getList("pendingBotTerritory", Tag.TAG_COMPOUND);
+        for (int i = 0; i < pending.size(); i++) {
+            CompoundTag p = pending.getCompound(i);
+            data.pendingBotTerritory.put(p.getUUID("nation"), p.getInt("radius"));
+        }
         ListTag list = tag.getList("nations", Tag.TAG_COMPOUND);
         for (int i = 0; i < list.size(); i++) {
             Nation n = Nation.fromNBT(list.getCompound(i));
             data.nations.put(n.getId(), n);
+            data.index(n);
             for (UUID player : n.getMembers().keySet()) {
                 data.playerNation.put(player, n.getId());
             }
@@ -50,28 +91,293 @@ public class NationSavedData extends SavedData {
         ListTag reqList = tag.getList("pendingRequests", Tag.TAG_COMPOUND);
         for (int i = 0; i < reqList.size(); i++) {
             DiplomacyRequest r = DiplomacyRequest.fromNBT(reqList.getCompound(i));
-            data.pendingRequests.put(r.getId(), r);
+            data.pendingRequests.add(r, requestTtlMillis());
         }
         return data;
     }
 
     @Override
     public CompoundTag save(CompoundTag tag) {
+        return write(tag, worldBotGenerated, pendingBotTerritory, journalSeq, nations.values(),
+                pendingRequests.all());
+    }
+
+    private static CompoundTag write(CompoundTag tag, boolean worldBotGenerated,
+            Map<UUID, Integer> pendingBotTerritory, long journalSeq,
+            Collection<Nation> nations, Collection<DiplomacyRequest> requests) {
         tag.putBoolean("worldBotGenerated", worldBotGenerated);
+        ListTag pending = new ListTag();
+        for (Map.Entry<UUID, Integer> e : pendingBotTerritory.entrySet()) {
+            CompoundTag p = new CompoundTag();
+            p.putUUID("nation", e.getKey());
+            p.putInt("radius", e.getValue());
+            pending.add(p);
+        }
+        tag.put("pendingBotTerritory", pending);
+        tag.putLong("journalSeq", journalSeq);
         ListTag list = new ListTag();
-        for (Nation n : nations.values()) {
+        for (Nation n : nations) {
             list.add(n.toNBT());
         }
         tag.put("nations", list);
         // Save pending diplomacy requests
         ListTag reqList = new ListTag();
-        for (DiplomacyRequest r : pendingRequests.values()) {
+        for (DiplomacyRequest r : requests) {
             reqList.add(r.toNBT());
         }
         tag.put("pendingRequests", reqList);
         return tag;
     }
 
+    /**
+     * Replaces the vanilla synchronous save. On the server thread this only
+     * takes a detached copy of the data; NBT serialisation and the file write
+     * run on {@link NationPersistence}'s thread. Once the new file is in place
+     * the journal records it covers are dropped.
+     */
+    @Override
+    public void save(File file) {
+        if (!isDirty() && !retrySave)
+            return;
+        retrySave = false;
+        setDirty(false);
+
+        boolean botFlag = worldBotGenerated;
+        Map<UUID, Integer> botTerritory = new LinkedHashMap<>(pendingBotTerritory);
+        long seq = journalSeq;
+        NationJournal compacted = journal;
+        if (compacted != null)
+            compacted.markCompacting();
+        List<Nation> nationCopies = new ArrayList<>(nations.size());
+        for (Nation n : nations.values())
+            nationCopies.add(n.copy());
+        List<DiplomacyRequest> requestCopies = new ArrayList<>(pendingRequests.size());
+        for (DiplomacyRequest r : pendingRequests.all())
+            requestCopies.add(r.copy());
+
+        NationPersistence.write(file, () -> {
+            CompoundTag root = new CompoundTag();
+            root.put("data", write(new CompoundTag(), botFlag, botTerritory, seq, nationCopies, requestCopies));
+            return NbtUtils.addCurrentDataVersion(root);
+        }, () -> {
+            if (compacted != null)
+                compacted.truncate();
+        }, () -> retrySave = true);
+    }
+
+    /** Makes the next save write the full file and clear the journal. */
+    public void requestCompaction() {
+        setDirty();
+    }
+
+    // ── Journal ──────────────────────────────────────────────────────────────────
+
+    private void attachJournal(NationJournal journal) {
+        this.journal = journal;
+        int replayed = 0;
+        for (CompoundTag record : journal.readAll()) {
+            long seq = record.getLong("seq");
+            if (seq <= journalSeq)
+                continue; // already part of the .dat
+            replay(record);
+            journalSeq = seq;
+            replayed++;
+        }
+        if (replayed > 0) {
+            for (Nation n : nations.values())
+                NationPowerCalculator.recalculate(n);
+            setDirty();
+            NationsForge.LOGGER.info(
+                    "[Dominion/Journal] Replayed {} nation operations from the journal", replayed);
+        }
+    }
+
+    /**
+     * Appends one operation to the journal, or falls back to marking the whole
+     * file dirty when no journal is attached.
+     */
+    private void record(String op, CompoundTag record) {
+        if (journal == null) {
+            setDirty();
+            return;
+        }
+        record.putLong("seq", ++journalSeq);
+        record.putString("op", op);
+        journal.append(record);
+        if (journal.size() >= NationsConfig.JOURNAL_COMPACT_THRESHOLD.get())
+            setDirty();
+    }
+
+    /** Journals a nation's name, tag, colour, description and recruitment setting. */
+    public void logSettings(Nation nation) {
+        CompoundTag r = new CompoundTag();
+        r.putUUID("nation", nation.getId());
+        r.putString("name", nation.getName());
+        r.putString("tag", nation.getTag());
+        r.putInt("colour", nation.getColour());
+        r.putString("description", nation.getDescription());
+        r.putBoolean("open", nation.isOpenRecruitment());
+        record("settings", r);
+    }
+
+    /** Journals a nation's current flag. */
+    public void logFlag(Nation nation) {
+        CompoundTag r = new CompoundTag();
+        r.putUUID("nation", nation.getId());
+        r.put("flag", nation.getFlag().toNBT());
+        record("flag", r);
+    }
+
+    /** Journals an invite; invites are only dropped by joining or leaving, which replay on their own. */
+    public void logInvite(Nation nation, UUID playerId) {
+        CompoundTag r = new CompoundTag();
+        r.putUUID("nation", nation.getId());
+        r.putUUID("player", playerId);
+        record("invite", r);
+    }
+
+    /** Journals a member's new rank (a SOVEREIGN rank also transfers leadership). */
+    public void logRank(Nation nation, UUID playerId) {
+        CompoundTag r = new CompoundTag();
+        r.putUUID("nation", nation.getId());
+        r.putUUID("player", playerId);
+        r.putInt("rank", nation.getRank(playerId).level);
+        record("rank", r);
+    }
+
+    /** Journals the current relation between two nations, in both directions. */
+    public void logRelation(Nation a, Nation b) {
+        CompoundTag r = new CompoundTag();
+        r.putUUID("a", a.getId());
+        r.putUUID("b", b.getId());
+        DiplomacyRelation ab = a.getRelations().get(b.getId());
+        DiplomacyRelation ba = b.getRelations().get(a.getId());
+        if (ab != null)
+            r.put("ab", ab.toNBT());
+        if (ba != null)
+            r.put("ba", ba.toNBT());
+        record("relation", r);
+    }
+
+    /** Journals a treasury deposit (positive) or withdrawal (negative). */
+    public void logTreasury(Nation nation, long delta) {
+        CompoundTag r = new CompoundTag();
+        r.putUUID("nation", nation.getId());
+        r.putLong("delta", delta);
+        record("treasury", r);
+    }
+
+    /** Journals a nation's current territory — for bots, whose territory is not backed by claims. */
+    public void logTerritory(Nation nation) {
+        CompoundTag r = new CompoundTag();
+        r.putUUID("nation", nation.getId());
+        r.putLong("territory", nation.getTerritory());
+        record("territory", r);
+    }
+
+    /** Journals a nation's current score (admin adjustments). */
+    public void logScore(Nation nation) {
+        CompoundTag r = new CompoundTag();
+        r.putUUID("nation", nation.getId());
+        r.putLong("score", nation.getScore());
+        record("score", r);
+    }
+
+    private void replay(CompoundTag r) {
+        switch (r.getString("op")) {
+            case "create", "nation" -> {
+                Nation n = Nation.fromNBT(r.getCompound("nation"));
+                Nation old = nations.put(n.getId(), n);
+                if (old != null) {
+                    old.getMembers().keySet().forEach(playerNation::remove);
+                    unindex(old);
+                }
+                index(n);
+                for (UUID member : n.getMembers().keySet())
+                    playerNation.put(member, n.getId());
+            }
+            case "disband" -> {
+                Nation n = nations.remove(r.getUUID("nation"));
+                if (n != null) {
+                    n.getMembers().keySet().forEach(playerNation::remove);
+                    unindex(n);
+                }
+            }
+            case "join" -> {
+                Nation n = nations.get(r.getUUID("nation"));
+                if (n != null) {
+                    n.addMember(r.getUUID("player"), NationRank.CITIZEN);
+                    playerNation.put(r.getUUID("player"), n.getId());
+                }
+            }
+            case "leave" -> {
+                UUID nationId = playerNation.remove(r.getUUID("player"));
+                Nation n = nationId == null ? null : nations.get(nationId);
+                if (n != null)
+                    n.removeMember(r.getUUID("player"));
+            }
+            case "rank" -> {
+                Nation n = nations.get(r.getUUID("nation"));
+                if (n != null)
+                    n.setRank(r.getUUID("player"), NationRank.fromLevel(r.getInt("rank")));
+            }
+            case "relation" -> {
+                Nation a = nations.get(r.getUUID("a"));
+                Nation b = nations.get(r.getUUID("b"));
+                if (a != null)
+                    a.restoreRelation(r.getUUID("b"),
+                            r.contains("ab") ? DiplomacyRelation.fromNBT(r.getCompound("ab")) : null);
+                if (b != null)
+                    b.restoreRelation(r.getUUID("a"),
+                            r.contains("ba") ? DiplomacyRelation.fromNBT(r.getCompound("ba")) : null);
+            }
+            case "settings" -> {
+                Nation n = nations.get(r.getUUID("nation"));
+                if (n != null) {
+                    if (!n.getName().equals(r.getString("name")))
+                        renameNation(n, r.getString("name"));
+                    if (!n.getTag().equals(r.getString("tag")))
+                        retagNation(n, r.getString("tag"));
+                    n.setColour(r.getInt("colour"));
+                    n.setDescription(r.getString("description"));
+                    n.setOpenRecruitment(r.getBoolean("open"));
+                }
+            }
+            case "flag" -> {
+                Nation n = nations.get(r.getUUID("nation"));
+                if (n != null)
+                    n.setFlag(NationFlag.fromNBT(r.getCompound("flag")));
+            }
+            case "invite" -> {
+                Nation n = nations.get(r.getUUID("nation"));
+                if (n != null)
+                    n.addInvite(r.getUUID("player"));
+            }
+            case "treasury" -> {
+                Nation n = nations.get(r.getUUID("nation"));
+                if (n != null)
+                    n.addTreasury(r.getLong("delta"));
+            }
+            case "territory" -> {
+                Nation n = nations.get(r.getUUID("nation"));
+                if (n != null)
+                    n.setTerritory(r.getLong("territory"));
+            }
+            case "score" -> {
+                Nation n = nations.get(r.getUUID("nation"));
+                if (n != null)
+                    n.setScore(r.getLong("score"));
+            }
+            case "request" -> {
+                DiplomacyRequest req = DiplomacyRequest.fromNBT(r.getCompound("request"));
+                pendingRequests.add(req, requestTtlMillis());
+            }
+            case "request_removed" -> pendingRequests.remove(r.getUUID("request"));
+            default -> NationsForge.LOGGER.warn(
+                    "[Dominion/Journal] Skipping unknown journal operation '{}'", r.getString("op"));
+        }
+    }
+
     // ── Nation CRUD ──────────────────────────────────────────────────────────────
 
     public Nation createNation(String name, String tag, int colour, UUID founderId) {
@@ -79,7 +385,11 @@ public class NationSavedData extends SavedData {
         Nation nation = new Nation(id, name, tag, colour, founderId);
         nations.put(id, nation);
         playerNation.put(founderId, id);
-        setDirty();
+        NationPresence.moved(founderId, id);
+        index(nation);
+        CompoundTag r = new CompoundTag();
+        r.put("nation", nation.toNBT());
+        record("create", r);
         return nation;
     }
 
@@ -94,6 +404,7 @@ public class NationSavedData extends SavedData {
         nation.setBot(true);
         nations.put(id, nation);
         playerNation.put(botLeaderId, id);
+        index(nation);
         setDirty();
         return nation;
     }
@@ -104,14 +415,55 @@ public class NationSavedData extends SavedData {
             for (UUID member : nation.getMembers().keySet()) {
                 playerNation.remove(member);
             }
+            unindex(nation);
+            NationLeaderboard.remove(nationId);
+            NationPresence.nationRemoved(nationId);
+            pendingBotTerritory.remove(nationId);
             // Clean up references from other nations
             for (Nation other : nations.values()) {
                 other.getRelations(); // triggers nothing; manual cleanup below
             }
-            setDirty();
+            CompoundTag r = new CompoundTag();
+            r.putUUID("nation", nationId);
+            record("disband", r);
         }
     }
 
+    /** Renames a nation, keeping the name indexes in step. The caller checks uniqueness. */
+    public void renameNation(Nation nation, String name) {
+        unindex(nation);
+        nation.setName(name);
+        index(nation);
+    }
+
+    /** Changes a nation's tag, keeping the tag index in step. The caller checks uniqueness. */
+    public void retagNation(Nation nation, String tag) {
+        unindex(nation);
+        nation.setTag(tag);
+        index(nation);
+    }
+
+    // ── Name / tag indexes ───────────────────────────────────────────────────────
+
+    private static String key(String s) {
+        return s.toLowerCase(Locale.ROOT);
+    }
+
+    /** Where legacy data holds duplicate names or tags the first nation keeps the entry. */
+    private void index(Nation nation) {
+        String name = key(nation.getName());
+        if (nameIndex.putIfAbsent(name, nation.getId()) == null)
+            namePrefixIndex.put(name, nation.getName());
+        tagIndex.putIfAbsent(key(nation.getTag()), nation.getId());
+    }
+
+    private void unindex(Nation nation) {
+        String name = key(nation.getName());
+        if (nameIndex.remove(name, nation.getId()))
+            namePrefixIndex.remove(name);
+        tagIndex.remove(key(nation.getTag()), nation.getId());
+    }
+
     // ── Member operations ────────────────────────────────────────────────────────
 
     public boolean addPlayerToNation(UUID playerId, UUID nationId) {
@@ -122,7 +474,11 @@ public class NationSavedData extends SavedData {
             return false; // already in a nation
         nation.addMember(playerId, NationRank.CITIZEN);
         playerNation.put(playerId, nationId);
-        setDirty();
+        NationPresence.moved(playerId, nationId);
+        CompoundTag r = new CompoundTag();
+        r.putUUID("nation", nationId);
+        r.putUUID("player", playerId);
+        record("join", r);
         return true;
     }
 
@@ -130,10 +486,13 @@ public class NationSavedData extends SavedData {
         UUID nationId = playerNation.remove(playerId);
         if (nationId == null)
             return false;
+        NationPresence.moved(playerId, null);
         Nation nation = nations.get(nationId);
         if (nation != null) {
             nation.removeMember(playerId);
-            setDirty();
+            CompoundTag r = new CompoundTag();
+            r.putUUID("player", playerId);
+            record("leave", r);
         }
         return true;
     }
@@ -145,9 +504,15 @@ public class NationSavedData extends SavedData {
     }
 
     public Optional<Nation> getNationByName(String name) {
-        return nations.values().stream()
-                .filter(n -> n.getName().equalsIgnoreCase(name))
-                .findFirst();
+        UUID id = nameIndex.get(key(name));
+        return id == null ? Optional.empty() : Optional.ofNullable(nations.get(id));
+    }
+
+    /** Display names of all nations whose name starts with {@code prefix}, ignoring case, in order. */
+    public Collection<String> getNationNamesStartingWith(String prefix) {
+        String from = key(prefix);
+        return Collections.unmodifiableCollection(
+                namePrefixIndex.subMap(from, true, from + Character.MAX_VALUE, false).values());
     }
 
     public Optional<Nation> getNationOfPlayer(UUID playerId) {
@@ -180,13 +545,11 @@ public class NationSavedData extends SavedData {
     }
 
     public boolean isNameTaken(String name) {
-        return nations.values().stream()
-                .anyMatch(n -> n.getName().equalsIgnoreCase(name));
+        return nameIndex.containsKey(key(name));
     }
 
     public boolean isTagTaken(String tag) {
-        return nations.values().stream()
-                .anyMatch(n -> n.getTag().equalsIgnoreCase(tag));
+        return tagIndex.containsKey(key(tag));
     }
 
     public Map<UUID, UUID> getPlayerNationMap() {
@@ -199,16 +562,40 @@ public class NationSavedData extends SavedData {
     // ── Diplomacy Requests ────────────────────────────────────────────────────────
 
     public void addDiplomacyRequest(DiplomacyRequest request) {
-        pendingRequests.put(request.getId(), request);
-        setDirty();
+        pendingRequests.add(request, requestTtlMillis());
+        CompoundTag r = new CompoundTag();
+        r.put("request", request.toNBT());
+        record("request", r);
     }
 
     public void removeDiplomacyRequest(UUID requestId) {
         if (pendingRequests.remove(requestId) != null) {
-            setDirty();
+            CompoundTag r = new CompoundTag();
+            r.putUUID("request", requestId);
+            record("request_removed", r);
         }
     }
 
+    /**
+     * Removes every request left unanswered past
+     * {@link NationsConfig#DIPLOMACY_REQUEST_TTL_MINUTES}, marks it
+     * {@link DiplomacyRequest.Status#EXPIRED} and returns them.
+     */
+    public List<DiplomacyRequest> expireDiplomacyRequests(long now) {
+        List<DiplomacyRequest> expired = pendingRequests.expire(now);
+        for (DiplomacyRequest req : expired) {
+            req.setStatus(DiplomacyRequest.Status.EXPIRED);
+            CompoundTag r = new CompoundTag();
+            r.putUUID("request", req.getId());
+            record("request_removed", r);
+        }
+        return expired;
+    }
+
+    private static long requestTtlMillis() {
+        return NationsConfig.DIPLOMACY_REQUEST_TTL_MINUTES.get() * 60_000L;
+    }
+
     public java.util.Optional<DiplomacyRequest> getRequestById(UUID requestId) {
         return java.util.Optional.ofNullable(pendingRequests.get(requestId));
     }
@@ -217,36 +604,23 @@ public class NationSavedData extends SavedData {
      * Returns all PENDING requests where the given nation is the TARGET (receiver).
      */
     public List<DiplomacyRequest> getIncomingRequestsForNation(UUID nationId) {
-        return pendingRequests.values().stream()
-                .filter(r -> r.getStatus() == DiplomacyRequest.Status.PENDING
-                        && r.getToNationId().equals(nationId))
-                .collect(Collectors.toList());
+        return pendingRequests.incoming(nationId);
     }
 
     /**
      * Returns all PENDING requests where the given nation is the SENDER (proposer).
      */
     public List<DiplomacyRequest> getOutgoingRequestsForNation(UUID nationId) {
-        return pendingRequests.values().stream()
-                .filter(r -> r.getStatus() == DiplomacyRequest.Status.PENDING
-                        && r.getFromNationId().equals(nationId))
-                .collect(Collectors.toList());
+        return pendingRequests.outgoing(nationId);
     }
 
     /** Returns all pending requests related to a nation (incoming or outgoing). */
     public List<DiplomacyRequest> getAllRequestsForNation(UUID nationId) {
-        return pendingRequests.values().stream()
-                .filter(r -> r.getStatus() == DiplomacyRequest.Status.PENDING
-                        && (r.getToNationId().equals(nationId)
-                                || r.getFromNationId().equals(nationId)))
-                .collect(Collectors.toList());
+        return pendingRequests.involving(nationId);
     }
 
     public boolean hasPendingRequestBetween(UUID nationA, UUID nationB) {
-        return pendingRequests.values().stream()
-                .anyMatch(r -> r.getStatus() == DiplomacyRequest.Status.PENDING
-                        && ((r.getFromNationId().equals(nationA) && r.getToNationId().equals(nationB))
-                         || (r.getFromNationId().equals(nationB) && r.getToNationId().equals(nationA))));
+        return pendingRequests.hasPendingBetween(nationA, nationB);
     }
 
     // ── World bot flag ────────────────────────────────────────────────────────────
@@ -258,4 +632,22 @@ public class NationSavedData extends SavedData {
     public void setWorldBotGenerated(boolean value) {
         this.worldBotGenerated = value;
     }
+
+    /**
+     * Bots whose starting territory has not been claimed yet, with their claim
+     * radius. Kept in the saved data so claiming resumes after a restart.
+     */
+    public Map<UUID, Integer> getPendingBotTerritory() {
+        return Collections.unmodifiableMap(pendingBotTerritory);
+    }
+
+    public void addPendingBotTerritory(UUID nationId, int radius) {
+        pendingBotTerritory.put(nationId, radius);
+        setDirty();
+    }
+
+    public void clearPendingBotTerritory(UUID nationId) {
+        if (pendingBotTerritory.remove(nationId) != null)
+            setDirty();
+    }
 }
@@ -0,0 +1,242 @@
+package dev.nationsforge.nation;
+
+import dev.nationsforge.NationsConfig;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.DecoderException;
+import net.minecraft.network.FriendlyByteBuf;
+
+import java.io.ByteArrayOutputStream;
+import java.util.*;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Compact binary wire format for nations, used by the sync packets in place of
+ * NBT.
+ *
+ * Numbers are varints, ranks and relation types are enum ordinals, relations
+ * are grouped by type so each type is written once, and every UUID / string
+ * goes through a per-body dictionary: the first occurrence is written in full,
+ * repeats as a one-byte back-reference (the leader is always also a member, and
+ * relation reasons repeat heavily).
+ *
+ * A body is one nation, matching the unit the sync tracker encodes once and
+ * shares between recipients. Bodies larger than
+ * {@link NationsConfig#COMPRESSION_THRESHOLD} bytes are deflated.
+ *
+ * Frame layout: {@code varint (rawLength << 1 | deflated)}, then either the raw
+ * body or {@code varint compressedLength} followed by the deflated bytes.
+ */
+public final class NationWireCodec {
+
+    /** Upper bound for an inflated body, mirroring vanilla's NBT packet limit. */
+    private static final int MAX_RAW_LENGTH = 2_097_152;
+
+    private NationWireCodec() {
+    }
+
+    // ── Dictionaries ─────────────────────────────────────────────────────────────
+
+    /** Write side of a body: the buffer plus its UUID and string dictionaries. */
+    public static final class Writer {
+        private final FriendlyByteBuf buf;
+        private final Map<UUID, Integer> uuids = new HashMap<>();
+        private final Map<String, Integer> strings = new HashMap<>();
+
+        Writer(FriendlyByteBuf buf) {
+            this.buf = buf;
+        }
+
+        public FriendlyByteBuf buf() {
+            return buf;
+        }
+
+        /** {@code 0} + raw UUID the first time, 1-based dictionary index after. */
+        public void writeUUID(UUID id) {
+            Integer index = uuids.get(id);
+            if (index != null) {
+                buf.writeVarInt(index + 1);
+                return;
+            }
+            buf.writeVarInt(0);
+            buf.writeUUID(id);
+            uuids.put(id, uuids.size());
+        }
+
+        /** Same scheme as {@link #writeUUID} for repeated strings. */
+        public void writeString(String s) {
+            Integer index = strings.get(s);
+            if (index != null) {
+                buf.writeVarInt(index + 1);
+                return;
+            }
+            buf.writeVarInt(0);
+            buf.writeUtf(s);
+            strings.put(s, strings.size());
+        }
+    }
+
+    /** Read side of a body, mirroring {@link Writer}. */
+    public static final class Reader {
+        private final FriendlyByteBuf buf;
+        private final List<UUID> uuids = new ArrayList<>();
+        private final List<String> strings = new ArrayList<>();
+
+        Reader(FriendlyByteBuf buf) {
+            this.buf = buf;
+        }
+
+        public FriendlyByteBuf buf() {
+            return buf;
+        }
+
+        public UUID readUUID() {
+            int ref = buf.readVarInt();
+            if (ref == 0) {
+                UUID id = buf.readUUID();
+                uuids.add(id);
+                return id;
+            }
+            if (ref > uuids.size())
+                throw new DecoderException("Bad UUID reference " + ref);
+            return uuids.get(ref - 1);
+        }
+
+        public String readString() {
+            int ref = buf.readVarInt();
+            if (ref == 0) {
+                String s = buf.readUtf();
+                strings.add(s);
+                return s;
+            }
+            if (ref > strings.size())
+                throw new DecoderException("Bad string reference " + ref);
+            return strings.get(ref - 1);
+        }
+    }
+
+    // ── Encoding ─────────────────────────────────────────────────────────────────
+
+    /**
+     * Encodes a nation — in full, or as the reduced summary form — to raw,
+     * unframed bytes. Equal nations encode to equal bytes, so the result doubles
+     * as a change detector.
+     */
+    public static byte[] write(Nation nation, boolean summary) {
+        ByteBuf tmp = Unpooled.buffer();
+        try {
+            nation.toBuf(new Writer(new FriendlyByteBuf(tmp)), summary);
+            byte[] raw = new byte[tmp.readableBytes()];
+            tmp.readBytes(raw);
+            return raw;
+        } finally {
+            tmp.release();
+        }
+    }
+
+    /** Wraps raw bytes from {@link #write} in a frame, deflating large bodies. */
+    public static byte[] frame(byte[] raw) {
+        return frame(raw, NationsConfig.COMPRESSION_THRESHOLD.get());
+    }
+
+    /** {@link #frame(byte[])} with an explicit threshold; {@code -1} never deflates. */
+    static byte[] frame(byte[] raw, int threshold) {
+        boolean deflate = threshold >= 0 && raw.length > threshold;
+        byte[] data = deflate ? deflate(raw) : raw;
+
+        ByteBuf tmp = Unpooled.buffer(data.length + 10);
+        try {
+            FriendlyByteBuf buf = new FriendlyByteBuf(tmp);
+            buf.writeVarInt(raw.length << 1 | (deflate ? 1 : 0));
+            if (deflate)
+                buf.writeVarInt(data.length);
+            buf.writeBytes(data);
+            byte[] framed = new byte[tmp.readableBytes()];
+            tmp.readBytes(framed);
+            return framed;
+        } finally {
+            tmp.release();
+        }
+    }
+
+    // ── Decoding ─────────────────────────────────────────────────────────────────
+
+    /** Reads one framed nation body written by {@link #frame}. */
+    public static Nation read(FriendlyByteBuf buf) {
+        int header = buf.readVarInt();
+        int rawLength = header >>> 1;
+        if (rawLength > MAX_RAW_LENGTH)
+            throw new DecoderException("Nation body too large: " + rawLength);
+        if ((header & 1) == 0) {
+            if (rawLength > buf.readableBytes())
+                throw new DecoderException("Bad nation body length " + rawLength
+                        + " (" + buf.readableBytes() + " bytes left)");
+            return readBody(new FriendlyByteBuf(buf.readSlice(rawLength)));
+        }
+
+        int compressedLength = buf.readVarInt();
+        if (compressedLength < 0 || compressedLength > buf.readableBytes())
+            throw new DecoderException("Bad compressed nation body length " + compressedLength
+                    + " (" + buf.readableBytes() + " bytes left)");
+        byte[] compressed = new byte[compressedLength];
+        buf.readBytes(compressed);
+        byte[] raw = inflate(compressed, rawLength);
+        return readBody(new FriendlyByteBuf(Unpooled.wrappedBuffer(raw)));
+    }
+
+    /** Decodes one body, which must be consumed exactly as the header said. */
+    private static Nation readBody(FriendlyByteBuf body) {
+        Nation nation;
+        try {
+            nation = Nation.fromBuf(new Reader(body));
+        } catch (IndexOutOfBoundsException e) {
+            throw new DecoderException("Nation body shorter than its fields", e);
+        }
+        if (body.isReadable())
+            throw new DecoderException(body.readableBytes() + " stray bytes after nation body");
+        return nation;
+    }
+
+    // ── Deflate ──────────────────────────────────────────────────────────────────
+
+    private static byte[] deflate(byte[] raw) {
+        Deflater deflater = new Deflater();
+        try {
+            deflater.setInput(raw);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(raw.length / 2);
+            byte[] chunk = new byte[1024];
+            while (!deflater.finished()) {
+                int n = deflater.deflate(chunk);
+                out.write(chunk, 0, n);
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] compressed, int rawLength) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(compressed);
+            byte[] raw = new byte[rawLength];
+            int n = 0;
+            while (n < rawLength && !inflater.finished()) {
+                int read = inflater.inflate(raw, n, rawLength - n);
+                if (read == 0 && (inflater.needsInput() || inflater.needsDictionary()))
+                    break;
+                n += read;
+            }
+            if (n != rawLength || !inflater.finished())
+                throw new DecoderException("Nation body inflated to " + n + " bytes, expected " + rawLength);
+            return raw;
+        } catch (DataFormatException e) {
+            throw new DecoderException("Corrupt nation body", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
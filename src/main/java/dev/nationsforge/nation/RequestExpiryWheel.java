@@ -0,0 +1,78 @@
+package dev.nationsforge.nation;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Hashed timer wheel of diplomacy request deadlines.
+ *
+ * Deadlines are wall-clock milliseconds bucketed into {@link #SLOTS} slots of
+ * {@link #SLOT_MILLIS} each, rounded up to the next slot boundary so an entry
+ * is never visited before it is due. A deadline further out than one
+ * revolution simply shares a slot with nearer ones and is skipped until its
+ * turn comes round.
+ * {@link #sweep} visits only the slots that elapsed since the previous sweep,
+ * so each call costs the entries in those slots rather than every request.
+ *
+ * Cancellation is lazy: an entry whose request has left the store is dropped
+ * the next time its slot is visited, so stale entries live at most one
+ * revolution.
+ */
+final class RequestExpiryWheel {
+
+    /** Width of one slot. */
+    static final long SLOT_MILLIS = 1_000L;
+    /** Number of slots (a power of two); one revolution is about 8.5 minutes. */
+    private static final int SLOTS = 512;
+    private static final int MASK = SLOTS - 1;
+
+    private record Entry(DiplomacyRequest request, long deadline) {
+    }
+
+    private final List<List<Entry>> slots = new ArrayList<>(SLOTS);
+    /** Absolute index ({@code millis / SLOT_MILLIS}) of the last slot swept. */
+    private long cursor;
+
+    RequestExpiryWheel() {
+        for (int i = 0; i < SLOTS; i++)
+            slots.add(new ArrayList<>(0));
+        cursor = System.currentTimeMillis() / SLOT_MILLIS - 1;
+    }
+
+    /**
+     * Files the deadline in the first slot that starts at or after it, so by the
+     * time a slot is swept every deadline within one revolution in it has
+     * passed. Deadlines already in the past land in the next slot to be swept.
+     */
+    void schedule(DiplomacyRequest request, long deadline) {
+        long slot = Math.max((deadline + SLOT_MILLIS - 1) / SLOT_MILLIS, cursor + 1);
+        slots.get((int) (slot & MASK)).add(new Entry(request, deadline));
+    }
+
+    /**
+     * Visits every slot that elapsed up to {@code now}, handing each entry whose
+     * deadline has passed to {@code expired}. Entries for which {@code live}
+     * is false are dropped without being reported.
+     */
+    void sweep(long now, Predicate<DiplomacyRequest> live, Consumer<DiplomacyRequest> expired) {
+        long target = now / SLOT_MILLIS;
+        // After a long pause one pass over the whole wheel covers everything
+        long from = Math.max(cursor + 1, target - MASK);
+        for (long t = from; t <= target; t++) {
+            Iterator<Entry> it = slots.get((int) (t & MASK)).iterator();
+            while (it.hasNext()) {
+                Entry e = it.next();
+                if (!live.test(e.request())) {
+                    it.remove();
+                } else if (e.deadline() <= now) {
+                    it.remove();
+                    expired.accept(e.request());
+                }
+            }
+        }
+        cursor = Math.max(cursor, target);
+    }
+}
@@ -0,0 +1,60 @@
+package dev.nationsforge.network;
+
+import dev.nationsforge.NationsConfig;
+import dev.nationsforge.NationsForge;
+import dev.nationsforge.nation.NationManager;
+import net.minecraft.server.MinecraftServer;
+import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+
+/**
+ * Coalesces nation broadcasts.
+ *
+ * {@link NationManager#broadcastAll} only raises a dirty flag here; the actual
+ * diff-and-send happens once at the end of the server tick, after
+ * {@link NationsConfig#BROADCAST_WINDOW_TICKS} ticks have
+ * passed since the first pending mutation. A burst of deposits or scripted
+ * {@code /nation setrelation} calls therefore costs a single broadcast.
+ *
+ * Callers that must reach clients immediately use
+ * {@link NationManager#broadcastNow}, which also clears any pending flush.
+ */
+@Mod.EventBusSubscriber(modid = NationsForge.MOD_ID, bus = Mod.EventBusSubscriber.Bus.FORGE)
+public final class NationSyncScheduler {
+
+    private static boolean dirty = false;
+    /** Ticks elapsed since the flag was first raised. */
+    private static int ticksDirty = 0;
+
+    private NationSyncScheduler() {
+    }
+
+    /** Request a broadcast at the end of the current window. */
+    public static void markDirty() {
+        dirty = true;
+    }
+
+    public static boolean isDirty() {
+        return dirty;
+    }
+
+    /** Drop any pending flush — called after an immediate broadcast and on server stop. */
+    public static void reset() {
+        dirty = false;
+        ticksDirty = 0;
+    }
+
+    @SubscribeEvent
+    public static void onServerTick(TickEvent.ServerTickEvent event) {
+        if (event.phase != TickEvent.Phase.END || !dirty)
+            return;
+        if (++ticksDirty < NationsConfig.BROADCAST_WINDOW_TICKS.get())
+            return;
+
+        MinecraftServer server = net.minecraftforge.server.ServerLifecycleHooks.getCurrentServer();
+        if (server == null)
+            return;
+        NationManager.broadcastNow(server);
+    }
+}
@@ -0,0 +1,335 @@
+package dev.nationsforge.network;
+
+import dev.nationsforge.nation.Nation;
+import dev.nationsforge.nation.NationSavedData;
+import dev.nationsforge.nation.NationWireCodec;
+import dev.nationsforge.network.packet.S2CNationChangedPacket;
+import dev.nationsforge.network.packet.S2CNationInvitesPacket;
+import dev.nationsforge.network.packet.S2CNationRemovedPacket;
+import dev.nationsforge.network.packet.S2CNationsDataPacket;
+import dev.nationsforge.network.packet.S2CPlayerNationPacket;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerPlayer;
+
+import javax.annotation.Nullable;
+import java.util.*;
+
+/**
+ * Server-side bookkeeping for the interest-scoped delta sync protocol.
+ *
+ * Instead of shipping every nation to every player after each mutation, the
+ * tracker remembers what was last broadcast for each nation and what each
+ * connected player currently holds, and only sends what changed:
+ * <ul>
+ * <li>{@link S2CNationChangedPacket} — a nation was created or modified, or
+ * moved between detail tiers for this player</li>
+ * <li>{@link S2CNationRemovedPacket} — a nation was disbanded</li>
+ * <li>{@link S2CPlayerNationPacket} — the player joined / left a nation</li>
+ * <li>{@link S2CNationInvitesPacket} — the set of nations inviting the player
+ * changed</li>
+ * </ul>
+ *
+ * Each player holds two tiers of data: full detail for their own nation and
+ * the one they are inspecting in the Browse tab, and a summary for everything
+ * else (both in the {@link NationWireCodec} format). Summaries only
+ * go out when a summary field changed, so treasury, member or relation churn in
+ * a nation reaches its own members and nobody else.
+ *
+ * Every packet carries a per-player sequence number; clients expect each delta
+ * to be exactly one ahead of what they hold and request a full snapshot on any
+ * gap. Each nation additionally carries its own revision counter
+ * ({@link Nation#getRevision()}), bumped by every mutation. A flush only
+ * re-encodes nations whose revision moved since the last one, and each tier is
+ * encoded once per change with the same bytes written for every recipient.
+ */
+public final class NationSyncTracker {
+
+    /** Last broadcast state of one nation, in both tiers. */
+    private static final class NationEntry {
+        /** {@link Nation#getRevision()} when last encoded; also sent to clients. */
+        int revision;
+        /** The nation's pending invites when last encoded. */
+        Set<UUID> invites = Set.of();
+        /** Raw {@link NationWireCodec} bytes, kept for change detection. */
+        byte[] full;
+        byte[] summary;
+        /** Framed (possibly deflated) bodies, built on first send. */
+        byte[] fullBody;
+        byte[] summaryBody;
+
+        byte[] body(boolean detailed) {
+            if (detailed) {
+                if (fullBody == null)
+                    fullBody = NationWireCodec.frame(full);
+                return fullBody;
+            }
+            if (summaryBody == null)
+                summaryBody = NationWireCodec.frame(summary);
+            return summaryBody;
+        }
+    }
+
+    /** What one connected player has been sent. */
+    private static final class PlayerView {
+        int seq;
+        @Nullable
+        UUID nation;
+        @Nullable
+        UUID inspected;
+        /** Nations this player currently holds in full detail. */
+        final Set<UUID> detailed = new HashSet<>();
+        Set<UUID> invites = Set.of();
+        /** Whether any delta went out since the last snapshot; a client can only miss one then. */
+        boolean deltaSent;
+        /** Server tick of the last snapshot. */
+        int snapshotTick;
+
+        /** Nations this player should hold in full detail. */
+        Set<UUID> interest() {
+            Set<UUID> wanted = new HashSet<>(2);
+            if (nation != null)
+                wanted.add(nation);
+            if (inspected != null)
+                wanted.add(inspected);
+            return wanted;
+        }
+    }
+
+    /** Minimum gap between two client-requested snapshots for one player. */
+    private static final int RESYNC_INTERVAL_TICKS = 20;
+
+    /** nation UUID → last broadcast state, in creation order. */
+    private static final Map<UUID, NationEntry> entries = new LinkedHashMap<>();
+    /** player UUID → view; present once the player has received a snapshot. */
+    private static final Map<UUID, PlayerView> views = new HashMap<>();
+    /** player UUID → nations inviting them, maintained from changed nations only. */
+    private static final Map<UUID, Set<UUID>> invitesByPlayer = new HashMap<>();
+
+    private NationSyncTracker() {
+    }
+
+    /** Forget all state — called on server start/stop so a new world starts clean. */
+    public static void reset() {
+        entries.clear();
+        views.clear();
+        invitesByPlayer.clear();
+    }
+
+    /** Drop a player's view — called on logout. */
+    public static void forget(UUID playerId) {
+        views.remove(playerId);
+    }
+
+    /**
+     * Full snapshot for one player, starting (or restarting) their view. The
+     * caller must have run {@link #broadcastChanges} first so the tracker is
+     * up to date with {@code data}.
+     */
+    public static S2CNationsDataPacket createSnapshot(ServerPlayer player, NationSavedData data) {
+        UUID playerId = player.getUUID();
+        PlayerView old = views.get(playerId);
+        PlayerView view = new PlayerView();
+        if (old != null) {
+            view.seq = old.seq;
+            view.inspected = old.inspected;
+        }
+        view.nation = data.getPlayerNationMap().get(playerId);
+
+        Set<UUID> wanted = view.interest();
+        int[] revisions = new int[entries.size()];
+        List<byte[]> bodies = new ArrayList<>(entries.size());
+        for (Map.Entry<UUID, NationEntry> e : entries.entrySet()) {
+            boolean detailed = wanted.contains(e.getKey());
+            if (detailed)
+                view.detailed.add(e.getKey());
+            revisions[bodies.size()] = e.getValue().revision;
+            bodies.add(e.getValue().body(detailed));
+        }
+
+        Set<UUID> invites = Set.copyOf(invitesByPlayer.getOrDefault(playerId, Set.of()));
+        view.invites = invites;
+
+        view.snapshotTick = player.getServer().getTickCount();
+        views.put(playerId, view);
+        return S2CNationsDataPacket.create(view.seq, revisions, bodies, view.nation, List.copyOf(invites));
+    }
+
+    /**
+     * Whether a client's request for a fresh snapshot should be honoured. A
+     * client can only have seen a gap if a delta went out since its last
+     * snapshot, and requests are further limited to one per
+     * {@link #RESYNC_INTERVAL_TICKS} so a client cannot force a stream of them.
+     */
+    public static boolean acceptResyncRequest(ServerPlayer player) {
+        PlayerView view = views.get(player.getUUID());
+        return view != null && view.deltaSent
+                && player.getServer().getTickCount() - view.snapshotTick >= RESYNC_INTERVAL_TICKS;
+    }
+
+    /**
+     * Switch which foreign nation a player receives in full detail. The newly
+     * inspected nation is sent in full right away and the previous one is
+     * downgraded back to a summary.
+     */
+    public static void inspect(ServerPlayer player, @Nullable UUID nationId) {
+        PlayerView view = views.get(player.getUUID());
+        if (view == null || Objects.equals(view.inspected, nationId))
+            return;
+        if (nationId != null && !entries.containsKey(nationId))
+            return;
+        view.inspected = nationId;
+
+        List<Object> packets = new ArrayList<>();
+        collectNationUpdates(view, Set.of(), Set.of(), packets);
+        view.deltaSent |= !packets.isEmpty();
+        for (Object packet : packets) {
+            PacketHandler.sendToPlayer(packet, player);
+        }
+    }
+
+    /**
+     * Sends each online player the deltas that concern them. Only nations whose
+     * revision moved since the last flush are encoded and compared, so the cost
+     * follows what changed rather than the total amount of nation data.
+     */
+    public static void broadcastChanges(MinecraftServer server, NationSavedData data) {
+        Set<UUID> changed = new HashSet<>();
+        Set<UUID> summaryChanged = new HashSet<>();
+        Set<UUID> inviteesChanged = new HashSet<>();
+
+        // Changed / new nations
+        Collection<Nation> nations = data.getAllNations();
+        for (Nation nation : nations) {
+            UUID id = nation.getId();
+            NationEntry entry = entries.get(id);
+            if (entry != null && entry.revision == nation.getRevision())
+                continue;
+            if (entry == null) {
+                entry = new NationEntry();
+                entries.put(id, entry);
+            }
+            entry.revision = nation.getRevision();
+            updateInvites(id, entry, nation.getPendingInvites(), inviteesChanged);
+
+            // A mutator may have left the synced form as it was; send nothing then
+            byte[] full = NationWireCodec.write(nation, false);
+            if (Arrays.equals(full, entry.full))
+                continue;
+            byte[] summary = NationWireCodec.write(nation, true);
+            if (!Arrays.equals(summary, entry.summary)) {
+                entry.summary = summary;
+                entry.summaryBody = null;
+                summaryChanged.add(id);
+            }
+            entry.full = full;
+            entry.fullBody = null;
+            changed.add(id);
+        }
+
+        // Removed nations — only scanned for when the counts say one went away
+        List<UUID> removed = new ArrayList<>();
+        if (entries.size() > nations.size()) {
+            Set<UUID> alive = new HashSet<>();
+            for (Nation nation : nations)
+                alive.add(nation.getId());
+            Iterator<Map.Entry<UUID, NationEntry>> it = entries.entrySet().iterator();
+            while (it.hasNext()) {
+                Map.Entry<UUID, NationEntry> e = it.next();
+                if (alive.contains(e.getKey()))
+                    continue;
+                updateInvites(e.getKey(), e.getValue(), Set.of(), inviteesChanged);
+                it.remove();
+                removed.add(e.getKey());
+            }
+        }
+
+        // Joining or leaving a nation always changes its member list, so nothing to send
+        if (changed.isEmpty() && removed.isEmpty() && inviteesChanged.isEmpty())
+            return;
+
+        Map<UUID, UUID> playerNation = data.getPlayerNationMap();
+        for (ServerPlayer player : server.getPlayerList().getPlayers()) {
+            PlayerView view = views.get(player.getUUID());
+            if (view == null)
+                continue; // snapshot not sent yet
+            List<Object> packets = new ArrayList<>();
+
+            UUID nationId = playerNation.get(player.getUUID());
+            if (!Objects.equals(nationId, view.nation)) {
+                view.nation = nationId;
+                packets.add(new S2CPlayerNationPacket(++view.seq, nationId));
+            }
+
+            for (UUID id : removed) {
+                view.detailed.remove(id);
+                if (id.equals(view.inspected))
+                    view.inspected = null;
+                packets.add(new S2CNationRemovedPacket(++view.seq, id));
+            }
+
+            collectNationUpdates(view, changed, summaryChanged, packets);
+
+            if (inviteesChanged.contains(player.getUUID())) {
+                Set<UUID> invites = Set.copyOf(invitesByPlayer.getOrDefault(player.getUUID(), Set.of()));
+                if (!invites.equals(view.invites)) {
+                    view.invites = invites;
+                    packets.add(new S2CNationInvitesPacket(++view.seq, List.copyOf(invites)));
+                }
+            }
+
+            view.deltaSent |= !packets.isEmpty();
+            for (Object packet : packets) {
+                PacketHandler.sendToPlayer(packet, player);
+            }
+        }
+    }
+
+    /** Moves a nation's entries in {@link #invitesByPlayer} from its old invite set to {@code now}. */
+    private static void updateInvites(UUID nationId, NationEntry entry, Set<UUID> now, Set<UUID> inviteesChanged) {
+        if (now.equals(entry.invites))
+            return;
+        for (UUID player : entry.invites) {
+            if (now.contains(player))
+                continue;
+            Set<UUID> nations = invitesByPlayer.get(player);
+            if (nations != null && nations.remove(nationId) && nations.isEmpty())
+                invitesByPlayer.remove(player);
+            inviteesChanged.add(player);
+        }
+        for (UUID player : now) {
+            if (entry.invites.contains(player))
+                continue;
+            invitesByPlayer.computeIfAbsent(player, k -> new HashSet<>()).add(nationId);
+            inviteesChanged.add(player);
+        }
+        entry.invites = Set.copyOf(now);
+    }
+
+    /**
+     * Queue the nation packets one player needs: full detail for nations that
+     * entered their interest or changed while in it, a summary for nations that
+     * left it or whose summary changed.
+     */
+    private static void collectNationUpdates(PlayerView view, Set<UUID> changed, Set<UUID> summaryChanged,
+            List<Object> packets) {
+        Set<UUID> wanted = view.interest();
+        Set<UUID> candidates = new HashSet<>(changed);
+        candidates.addAll(view.detailed);
+        candidates.addAll(wanted);
+
+        for (UUID id : candidates) {
+            NationEntry entry = entries.get(id);
+            if (entry == null)
+                continue;
+            boolean want = wanted.contains(id);
+            boolean has = view.detailed.contains(id);
+            if (want && (!has || changed.contains(id))) {
+                view.detailed.add(id);
+                packets.add(new S2CNationChangedPacket(++view.seq, entry.revision, entry.body(true)));
+            } else if (!want && (has || summaryChanged.contains(id))) {
+                view.detailed.remove(id);
+                packets.add(new S2CNationChangedPacket(++view.seq, entry.revision, entry.body(false)));
+            }
+        }
+    }
+}
@@ -13,7 +13,7 @@ import java.util.Optional;
 
 public class PacketHandler {
 
-        private static final String PROTOCOL = "1";
+        private static final String PROTOCOL = "5";
         public static final SimpleChannel CHANNEL = NetworkRegistry.newSimpleChannel(
                         new ResourceLocation(NationsForge.MOD_ID, "main"),
                         () -> PROTOCOL,
@@ -30,6 +30,43 @@ public class PacketHandler {
                                 .consumerMainThread(S2CNationsDataPacket::handle)
                                 .add();
 
+                // Delta sync
+                CHANNEL.messageBuilder(S2CNationChangedPacket.class, id++, NetworkDirection.PLAY_TO_CLIENT)
+                                .decoder(S2CNationChangedPacket::decode)
+                                .encoder(S2CNationChangedPacket::encode)
+                                .consumerMainThread(S2CNationChangedPacket::handle)
+                                .add();
+
+                CHANNEL.messageBuilder(S2CNationRemovedPacket.class, id++, NetworkDirection.PLAY_TO_CLIENT)
+                                .decoder(S2CNationRemovedPacket::decode)
+                                .encoder(S2CNationRemovedPacket::encode)
+                                .consumerMainThread(S2CNationRemovedPacket::handle)
+                                .add();
+
+                CHANNEL.messageBuilder(S2CPlayerNationPacket.class, id++, NetworkDirection.PLAY_TO_CLIENT)
+                                .decoder(S2CPlayerNationPacket::decode)
+                                .encoder(S2CPlayerNationPacket::encode)
+                                .consumerMainThread(S2CPlayerNationPacket::handle)
+                                .add();
+
+                CHANNEL.messageBuilder(S2CNationInvitesPacket.class, id++, NetworkDirection.PLAY_TO_CLIENT)
+                                .decoder(S2CNationInvitesPacket::decode)
+                                .encoder(S2CNationInvitesPacket::encode)
+                                .consumerMainThread(S2CNationInvitesPacket::handle)
+                                .add();
+
+                CHANNEL.messageBuilder(C2SRequestNationSyncPacket.class, id++, NetworkDirection.PLAY_TO_SERVER)
+                                .decoder(C2SRequestNationSyncPacket::decode)
+                                .encoder(C2SRequestNationSyncPacket::encode)
+                                .consumerMainThread(C2SRequestNationSyncPacket::handle)
+                                .add();
+
+                CHANNEL.messageBuilder(C2SInspectNationPacket.class, id++, NetworkDirection.PLAY_TO_SERVER)
+                                .decoder(C2SInspectNationPacket::decode)
+                                .encoder(C2SInspectNationPacket::encode)
+                                .consumerMainThread(C2SInspectNationPacket::handle)
+                                .add();
+
                 // C2S
                 CHANNEL.messageBuilder(C2SCreateNationPacket.class, id++, NetworkDirection.PLAY_TO_SERVER)
                                 .decoder(C2SCreateNationPacket::decode)
@@ -103,6 +140,12 @@ public class PacketHandler {
                                 .encoder(S2CDiplomacyNotifyPacket::encode)
                                 .consumerMainThread(S2CDiplomacyNotifyPacket::handle)
                                 .add();
+
+                CHANNEL.messageBuilder(S2CLeaderboardPacket.class, id++, NetworkDirection.PLAY_TO_CLIENT)
+                                .decoder(S2CLeaderboardPacket::decode)
+                                .encoder(S2CLeaderboardPacket::encode)
+                                .consumerMainThread(S2CLeaderboardPacket::handle)
+                                .add();
         }
 
         public static void sendToPlayer(Object packet, ServerPlayer player) {
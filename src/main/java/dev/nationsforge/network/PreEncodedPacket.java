@@ -0,0 +1,57 @@
+package dev.nationsforge.network;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import net.minecraft.network.FriendlyByteBuf;
+
+import java.util.function.Consumer;
+
+/**
+ * Base class for server → client packets that are sent to many players.
+ *
+ * The body is serialised exactly once, the first time the packet is encoded,
+ * into an immutable {@code byte[]}. Every further encode — one per recipient
+ * when sending player-by-player — is a plain byte copy instead of walking the
+ * object graph again. Used by {@code S2CDiplomacyNotifyPacket}. The wire format is identical to writing the body
+ * directly, so decoders read it back with the usual {@link FriendlyByteBuf}
+ * calls.
+ *
+ * Packets are built and sent on the server thread, so no synchronisation is
+ * needed around the lazily-filled payload.
+ */
+public abstract class PreEncodedPacket {
+
+    private byte[] payload;
+
+    /** Writes the packet body. Called at most once per packet instance. */
+    protected abstract void write(FriendlyByteBuf buf);
+
+    /** The serialised body, encoded on first access and reused afterwards. */
+    public final byte[] payload() {
+        if (payload == null)
+            payload = encodeBytes(this::write);
+        return payload;
+    }
+
+    public final void encode(FriendlyByteBuf buf) {
+        buf.writeBytes(payload());
+    }
+
+    /**
+     * Runs {@code writer} against a scratch buffer and returns the bytes it
+     * wrote. Also used for fragments shared between per-player packets, such
+     * as the leaderboard's top list in {@code NationLeaderboard}. (Nation bodies
+     * in {@link NationSyncTracker} are framed by {@code NationWireCodec}.)
+     */
+    public static byte[] encodeBytes(Consumer<FriendlyByteBuf> writer) {
+        ByteBuf tmp = Unpooled.buffer();
+        try {
+            writer.accept(new FriendlyByteBuf(tmp));
+            byte[] bytes = new byte[tmp.readableBytes()];
+            tmp.readBytes(bytes);
+            return bytes;
+        } finally {
+            tmp.release();
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package dev.nationsforge.network.packet;
+
+import dev.nationsforge.nation.NationManager;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraftforge.network.NetworkEvent;
+
+import javax.annotation.Nullable;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Client → Server: the player opened a nation in the Browse tab and wants it
+ * in full detail, or closed it ({@code nationId == null}).
+ */
+public class C2SInspectNationPacket {
+
+    @Nullable
+    private final UUID nationId;
+
+    public C2SInspectNationPacket(@Nullable UUID nationId) {
+        this.nationId = nationId;
+    }
+
+    public void encode(FriendlyByteBuf buf) {
+        buf.writeBoolean(nationId != null);
+        if (nationId != null)
+            buf.writeUUID(nationId);
+    }
+
+    public static C2SInspectNationPacket decode(FriendlyByteBuf buf) {
+        return new C2SInspectNationPacket(buf.readBoolean() ? buf.readUUID() : null);
+    }
+
+    public void handle(Supplier<NetworkEvent.Context> ctx) {
+        ServerPlayer player = ctx.get().getSender();
+        if (player == null)
+            return;
+        ctx.get().enqueueWork(() -> NationManager.inspectNation(player.getServer(), player, nationId));
+        ctx.get().setPacketHandled(true);
+    }
+}
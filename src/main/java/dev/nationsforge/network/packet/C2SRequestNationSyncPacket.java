@@ -0,0 +1,35 @@
+package dev.nationsforge.network.packet;
+
+import dev.nationsforge.nation.NationManager;
+import dev.nationsforge.network.NationSyncTracker;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraftforge.network.NetworkEvent;
+
+import java.util.function.Supplier;
+
+/**
+ * Client → Server: the client detected a gap in the delta sync stream and asks
+ * for a fresh full snapshot. Requests the client cannot need — no delta since
+ * its last snapshot, or too soon after it — are dropped.
+ */
+public class C2SRequestNationSyncPacket {
+
+    public void encode(FriendlyByteBuf buf) {
+    }
+
+    public static C2SRequestNationSyncPacket decode(FriendlyByteBuf buf) {
+        return new C2SRequestNationSyncPacket();
+    }
+
+    public void handle(Supplier<NetworkEvent.Context> ctx) {
+        ServerPlayer player = ctx.get().getSender();
+        if (player == null)
+            return;
+        ctx.get().enqueueWork(() -> {
+            if (NationSyncTracker.acceptResyncRequest(player))
+                NationManager.syncToPlayer(player.getServer(), player);
+        });
+        ctx.get().setPacketHandled(true);
+    }
+}
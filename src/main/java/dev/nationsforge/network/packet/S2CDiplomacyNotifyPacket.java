@@ -2,6 +2,7 @@ package dev.nationsforge.network.packet;
 
 import dev.nationsforge.client.ClientNationData;
 import dev.nationsforge.nation.DiplomacyRequest;
+import dev.nationsforge.network.PreEncodedPacket;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraftforge.network.NetworkEvent;
 
@@ -20,7 +21,7 @@ import java.util.function.Supplier;
  *   <li>The player joins the server (initial sync of open requests)</li>
  * </ul>
  */
-public class S2CDiplomacyNotifyPacket {
+public class S2CDiplomacyNotifyPacket extends PreEncodedPacket {
 
     private final List<DiplomacyRequest> requests;
 
@@ -28,7 +29,8 @@ public class S2CDiplomacyNotifyPacket {
         this.requests = requests == null ? List.of() : List.copyOf(requests);
     }
 
-    public void encode(FriendlyByteBuf buf) {
+    @Override
+    protected void write(FriendlyByteBuf buf) {
         buf.writeInt(requests.size());
         for (DiplomacyRequest r : requests) {
             r.toBuf(buf);
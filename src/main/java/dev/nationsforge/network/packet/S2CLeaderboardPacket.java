@@ -0,0 +1,74 @@
+package dev.nationsforge.network.packet;
+
+import dev.nationsforge.client.ClientNationData;
+import dev.nationsforge.nation.NationLeaderboard;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraftforge.network.NetworkEvent;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Server → Client: the top of the nation leaderboard, the number of ranked
+ * nations, and the rank of the receiving player's nation (0 if none). Replaces
+ * the client's copy wholesale. See {@link NationLeaderboard}.
+ *
+ * The top list is the same for every recipient, so the server encodes it once
+ * and passes the bytes in; only the trailing rank is written per player.
+ */
+public class S2CLeaderboardPacket {
+
+    private final List<NationLeaderboard.Entry> top;
+    /** Pre-encoded {@link #top} (server side only), or null to encode it here. */
+    @Nullable
+    private final byte[] encodedTop;
+    private final int total;
+    private final int ownRank;
+
+    public S2CLeaderboardPacket(List<NationLeaderboard.Entry> top, @Nullable byte[] encodedTop,
+            int total, int ownRank) {
+        this.top = top;
+        this.encodedTop = encodedTop;
+        this.total = total;
+        this.ownRank = ownRank;
+    }
+
+    public void encode(FriendlyByteBuf buf) {
+        if (encodedTop != null)
+            buf.writeBytes(encodedTop);
+        else
+            writeEntries(buf, top);
+        buf.writeVarInt(total);
+        buf.writeVarInt(ownRank);
+    }
+
+    public static void writeEntries(FriendlyByteBuf buf, List<NationLeaderboard.Entry> entries) {
+        buf.writeVarInt(entries.size());
+        for (NationLeaderboard.Entry e : entries) {
+            buf.writeUUID(e.nationId());
+            buf.writeVarLong(e.score());
+            buf.writeVarInt(e.rankDelta());
+        }
+    }
+
+    public static S2CLeaderboardPacket decode(FriendlyByteBuf buf) {
+        int count = buf.readVarInt();
+        List<NationLeaderboard.Entry> top = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            UUID id = buf.readUUID();
+            long score = buf.readVarLong();
+            top.add(new NationLeaderboard.Entry(id, score, buf.readVarInt()));
+        }
+        int total = buf.readVarInt();
+        int ownRank = buf.readVarInt();
+        return new S2CLeaderboardPacket(top, null, total, ownRank);
+    }
+
+    public void handle(Supplier<NetworkEvent.Context> ctx) {
+        ctx.get().enqueueWork(() -> ClientNationData.setLeaderboard(top, total, ownRank));
+        ctx.get().setPacketHandled(true);
+    }
+}
@@ -0,0 +1,56 @@
+package dev.nationsforge.network.packet;
+
+import dev.nationsforge.client.ClientNationData;
+import dev.nationsforge.nation.Nation;
+import dev.nationsforge.nation.NationWireCodec;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraftforge.network.NetworkEvent;
+
+import java.util.function.Supplier;
+
+/**
+ * Server → Client: a single nation was created or changed, or the recipient's
+ * interest in it changed (full detail ↔ summary).
+ *
+ * On the server the nation arrives already encoded in the
+ * {@link NationWireCodec} format, shared by every recipient; only the
+ * per-player sequence number is written per send.
+ */
+public class S2CNationChangedPacket {
+
+    private final int seq;
+    private final int revision;
+    /** Server side: pre-encoded nation body. */
+    private final byte[] body;
+    /** Client side: decoded nation (full or summary form). */
+    private final Nation nation;
+
+    public S2CNationChangedPacket(int seq, int revision, byte[] body) {
+        this.seq = seq;
+        this.revision = revision;
+        this.body = body;
+        this.nation = null;
+    }
+
+    private S2CNationChangedPacket(int seq, int revision, Nation nation) {
+        this.seq = seq;
+        this.revision = revision;
+        this.body = null;
+        this.nation = nation;
+    }
+
+    public void encode(FriendlyByteBuf buf) {
+        buf.writeVarInt(seq);
+        buf.writeVarInt(revision);
+        buf.writeBytes(body);
+    }
+
+    public static S2CNationChangedPacket decode(FriendlyByteBuf buf) {
+        return new S2CNationChangedPacket(buf.readVarInt(), buf.readVarInt(), NationWireCodec.read(buf));
+    }
+
+    public void handle(Supplier<NetworkEvent.Context> ctx) {
+        ctx.get().enqueueWork(() -> ClientNationData.applyNationChanged(seq, revision, nation));
+        ctx.get().setPacketHandled(true);
+    }
+}
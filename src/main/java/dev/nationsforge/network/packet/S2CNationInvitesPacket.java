@@ -0,0 +1,39 @@
+package dev.nationsforge.network.packet;
+
+import dev.nationsforge.client.ClientNationData;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraftforge.network.NetworkEvent;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Server → Client: the nations that currently have a pending invite out to the
+ * receiving player. Replaces the previous list; summaries of other nations do
+ * not carry invites.
+ */
+public class S2CNationInvitesPacket {
+
+    private final int seq;
+    private final List<UUID> nationIds;
+
+    public S2CNationInvitesPacket(int seq, List<UUID> nationIds) {
+        this.seq = seq;
+        this.nationIds = nationIds;
+    }
+
+    public void encode(FriendlyByteBuf buf) {
+        buf.writeVarInt(seq);
+        buf.writeCollection(nationIds, FriendlyByteBuf::writeUUID);
+    }
+
+    public static S2CNationInvitesPacket decode(FriendlyByteBuf buf) {
+        return new S2CNationInvitesPacket(buf.readVarInt(), buf.readList(FriendlyByteBuf::readUUID));
+    }
+
+    public void handle(Supplier<NetworkEvent.Context> ctx) {
+        ctx.get().enqueueWork(() -> ClientNationData.applyInvites(seq, nationIds));
+        ctx.get().setPacketHandled(true);
+    }
+}
@@ -0,0 +1,34 @@
+package dev.nationsforge.network.packet;
+
+import dev.nationsforge.client.ClientNationData;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraftforge.network.NetworkEvent;
+
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/** Server → Client: a nation was disbanded and should be dropped from the cache. */
+public class S2CNationRemovedPacket {
+
+    private final int seq;
+    private final UUID nationId;
+
+    public S2CNationRemovedPacket(int seq, UUID nationId) {
+        this.seq = seq;
+        this.nationId = nationId;
+    }
+
+    public void encode(FriendlyByteBuf buf) {
+        buf.writeVarInt(seq);
+        buf.writeUUID(nationId);
+    }
+
+    public static S2CNationRemovedPacket decode(FriendlyByteBuf buf) {
+        return new S2CNationRemovedPacket(buf.readVarInt(), buf.readUUID());
+    }
+
+    public void handle(Supplier<NetworkEvent.Context> ctx) {
+        ctx.get().enqueueWork(() -> ClientNationData.applyNationRemoved(seq, nationId));
+        ctx.get().setPacketHandled(true);
+    }
+}
@@ -1,58 +1,86 @@
 package dev.nationsforge.network.packet;
 
 import dev.nationsforge.client.ClientNationData;
-import dev.nationsforge.nation.DiplomacyRelation;
 import dev.nationsforge.nation.Nation;
-import dev.nationsforge.nation.NationSavedData;
-import net.minecraft.nbt.CompoundTag;
-import net.minecraft.nbt.ListTag;
-import net.minecraft.nbt.Tag;
+import dev.nationsforge.nation.NationWireCodec;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraftforge.network.NetworkEvent;
 
+import javax.annotation.Nullable;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.UUID;
 import java.util.function.Supplier;
 
 /**
- * Server → Client: full snapshot of all nations.
- * Sent on player login and after every mutation.
+ * Server → Client: full snapshot of everything the player is entitled to see.
+ * The player's own nation and the nation they are inspecting come in full
+ * detail, every other nation as a summary (both in the
+ * {@link NationWireCodec} format), plus the player's own nation id and the
+ * nations inviting them.
+ *
+ * Sent on player login and whenever the client reports a gap in the delta
+ * stream; everything else is synced incrementally by
+ * {@link dev.nationsforge.network.NationSyncTracker}. The per-nation bodies are
+ * pre-encoded by the tracker and shared between players' snapshots.
  */
 public class S2CNationsDataPacket {
 
-    private final CompoundTag data;
+    /** Per-player sync sequence number the snapshot corresponds to. */
+    private final int seq;
+    private final int[] revisions;
+    /** Server side: pre-encoded nation bodies, parallel to {@link #revisions}. */
+    private final List<byte[]> bodies;
+    /** Client side: decoded nations, parallel to {@link #revisions}. */
+    private final List<Nation> nations;
+    @Nullable
+    private final UUID ownNation;
+    private final List<UUID> invites;
 
-    public S2CNationsDataPacket(CompoundTag data) {
-        this.data = data;
+    private S2CNationsDataPacket(int seq, int[] revisions, List<byte[]> bodies, List<Nation> nations,
+            @Nullable UUID ownNation, List<UUID> invites) {
+        this.seq = seq;
+        this.revisions = revisions;
+        this.bodies = bodies;
+        this.nations = nations;
+        this.ownNation = ownNation;
+        this.invites = invites;
     }
 
-    public static S2CNationsDataPacket create(NationSavedData savedData) {
-        CompoundTag root = new CompoundTag();
-        ListTag list = new ListTag();
-        for (Nation n : savedData.getAllNations()) {
-            list.add(n.toNBT());
-        }
-        root.put("nations", list);
-
-        // Also serialise playerNation map so client knows which nation each player is
-        // in
-        CompoundTag pnMap = new CompoundTag();
-        savedData.getPlayerNationMap().forEach((playerId, nationId) -> pnMap.putUUID(playerId.toString(), nationId));
-        root.put("playerNation", pnMap);
-
-        return new S2CNationsDataPacket(root);
+    public static S2CNationsDataPacket create(int seq, int[] revisions, List<byte[]> bodies,
+            @Nullable UUID ownNation, List<UUID> invites) {
+        return new S2CNationsDataPacket(seq, revisions, bodies, null, ownNation, invites);
     }
 
     public void encode(FriendlyByteBuf buf) {
-        buf.writeNbt(data);
+        buf.writeVarInt(seq);
+        buf.writeVarInt(bodies.size());
+        for (int i = 0; i < bodies.size(); i++) {
+            buf.writeVarInt(revisions[i]);
+            buf.writeBytes(bodies.get(i));
+        }
+        buf.writeBoolean(ownNation != null);
+        if (ownNation != null)
+            buf.writeUUID(ownNation);
+        buf.writeCollection(invites, FriendlyByteBuf::writeUUID);
     }
 
     public static S2CNationsDataPacket decode(FriendlyByteBuf buf) {
-        return new S2CNationsDataPacket(buf.readNbt());
+        int seq = buf.readVarInt();
+        int count = buf.readVarInt();
+        int[] revisions = new int[count];
+        List<Nation> nations = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            revisions[i] = buf.readVarInt();
+            nations.add(NationWireCodec.read(buf));
+        }
+        UUID ownNation = buf.readBoolean() ? buf.readUUID() : null;
+        List<UUID> invites = buf.readList(FriendlyByteBuf::readUUID);
+        return new S2CNationsDataPacket(seq, revisions, null, nations, ownNation, invites);
     }
 
     public void handle(Supplier<NetworkEvent.Context> ctx) {
-        ctx.get().enqueueWork(() -> ClientNationData.receive(data));
+        ctx.get().enqueueWork(() -> ClientNationData.receive(seq, revisions, nations, ownNation, invites));
         ctx.get().setPacketHandled(true);
     }
 }
@@ -0,0 +1,43 @@
+package dev.nationsforge.network.packet;
+
+import dev.nationsforge.client.ClientNationData;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraftforge.network.NetworkEvent;
+
+import javax.annotation.Nullable;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Server → Client: the receiving player joined a nation, or left one
+ * ({@code nationId == null}). Other players' memberships are not synced.
+ */
+public class S2CPlayerNationPacket {
+
+    private final int seq;
+    @Nullable
+    private final UUID nationId;
+
+    public S2CPlayerNationPacket(int seq, @Nullable UUID nationId) {
+        this.seq = seq;
+        this.nationId = nationId;
+    }
+
+    public void encode(FriendlyByteBuf buf) {
+        buf.writeVarInt(seq);
+        buf.writeBoolean(nationId != null);
+        if (nationId != null)
+            buf.writeUUID(nationId);
+    }
+
+    public static S2CPlayerNationPacket decode(FriendlyByteBuf buf) {
+        int seq = buf.readVarInt();
+        UUID nationId = buf.readBoolean() ? buf.readUUID() : null;
+        return new S2CPlayerNationPacket(seq, nationId);
+    }
+
+    public void handle(Supplier<NetworkEvent.Context> ctx) {
+        ctx.get().enqueueWork(() -> ClientNationData.applyPlayerNation(seq, nationId));
+        ctx.get().setPacketHandled(true);
+    }
+}
@@ -0,0 +1,82 @@
+package dev.nationsforge.event;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that the economy cycle's slicing ({@link NationTickHandler#processUntil})
+ * keeps each tick within its budget while still finishing the cycle.
+ */
+class NationTickHandlerTest {
+
+    /** The default {@code economy.tickBudgetMicros}. */
+    private static final long BUDGET_NANOS = 2_000_000L;
+    /** Cost of one simulated nation. */
+    private static final long STEP_NANOS = 50_000L;
+
+    private static List<UUID> ids(int n) {
+        List<UUID> ids = new ArrayList<>(n);
+        for (int i = 0; i < n; i++)
+            ids.add(new UUID(0, i));
+        return ids;
+    }
+
+    private static void spin(long nanos) {
+        long end = System.nanoTime() + nanos;
+        while (System.nanoTime() < end)
+            Thread.onSpinWait();
+    }
+
+    @Test
+    void slicesStayWithinBudget() {
+        List<UUID> ids = ids(2_000); // ≈ 100 ms of work in total
+        List<UUID> seen = new ArrayList<>(ids.size());
+        List<Long> slices = new ArrayList<>();
+
+        int cursor = 0;
+        while (cursor < ids.size()) {
+            long start = System.nanoTime();
+            cursor = NationTickHandler.processUntil(ids, cursor, start + BUDGET_NANOS, id -> {
+                spin(STEP_NANOS);
+                seen.add(id);
+                return true;
+            });
+            slices.add(System.nanoTime() - start);
+        }
+
+        assertEquals(ids, seen, "every nation processed once, in order");
+        assertTrue(slices.size() >= 40, "work was spread over " + slices.size() + " slices");
+
+        // A slice may overrun by the step it started just before the deadline;
+        // the median guards the budget, the maximum only against runaway slices
+        long[] sorted = slices.stream().mapToLong(Long::longValue).sorted().toArray();
+        long median = sorted[sorted.length / 2];
+        assertTrue(median <= BUDGET_NANOS + STEP_NANOS * 2,
+                "median slice took " + median / 1_000 + " µs, budget " + BUDGET_NANOS / 1_000 + " µs");
+        assertTrue(sorted[sorted.length - 1] < BUDGET_NANOS * 10,
+                "slowest slice took " + sorted[sorted.length - 1] / 1_000 + " µs; all: " + Arrays.toString(sorted));
+    }
+
+    @Test
+    void progressesWhenBudgetIsAlreadySpent() {
+        List<UUID> ids = ids(3);
+        long past = System.nanoTime() - 1;
+        assertEquals(1, NationTickHandler.processUntil(ids, 0, past, id -> true));
+        assertEquals(2, NationTickHandler.processUntil(ids, 1, past, id -> true));
+    }
+
+    @Test
+    void skippedNationsDoNotCountAsProgress() {
+        List<UUID> ids = ids(4);
+        long past = System.nanoTime() - 1;
+        // The first two were disbanded since the cycle started; the third does the work
+        int cursor = NationTickHandler.processUntil(ids, 0, past, id -> id.getLeastSignificantBits() >= 2);
+        assertEquals(3, cursor);
+    }
+}
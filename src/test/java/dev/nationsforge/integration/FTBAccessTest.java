@@ -0,0 +1,21 @@
+package dev.nationsforge.integration;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * FTB is not on the test classpath, so every handle holder must fail to bind
+ * and report itself unavailable rather than throwing from its initialiser.
+ */
+class FTBAccessTest {
+
+    @Test
+    void holdersReportUnavailableWithoutFtb() {
+        assertDoesNotThrow(() -> {
+            assertFalse(FTBAccess.teamsApiAvailable());
+            assertFalse(FTBAccess.teamInternalsAvailable());
+            assertFalse(FTBAccess.chunksAvailable());
+        });
+    }
+}
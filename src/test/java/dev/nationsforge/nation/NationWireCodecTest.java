@@ -0,0 +1,191 @@
+package dev.nationsforge.nation;
+
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.DecoderException;
+import net.minecraft.nbt.NbtIo;
+import net.minecraft.network.FriendlyByteBuf;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Round-trip and size checks for {@link NationWireCodec}. Nations, flags and
+ * the codec need no Minecraft bootstrap, so these run as plain unit tests.
+ */
+class NationWireCodecTest {
+
+    /** A nation the size of a busy server's: 40 members, 25 relations, a layered flag. */
+    private static Nation sampleNation() {
+        UUID leader = new UUID(1, 1);
+        Nation nation = new Nation(new UUID(7, 7), "Kingdom of Testing", "TEST", 0xFF3366AA, leader);
+        nation.setDescription("A nation used by the codec tests.");
+        nation.setOpenRecruitment(true);
+        nation.setTreasury(123_456L);
+        nation.setScore(9_876L);
+        nation.setTerritory(321L);
+        nation.setPower(4_242L);
+        nation.setCapital(-1200, 3400);
+        for (int i = 0; i < 40; i++)
+            nation.addMember(new UUID(2, i), i % 5 == 0 ? NationRank.DIPLOMAT : NationRank.CITIZEN);
+        for (int i = 0; i < 5; i++)
+            nation.addInvite(new UUID(3, i));
+        RelationType[] types = { RelationType.ALLIANCE, RelationType.TRADE_PACT, RelationType.RIVALRY,
+                RelationType.WAR };
+        for (int i = 0; i < 25; i++)
+            nation.setRelation(new UUID(4, i), types[i % types.length], i % 2 == 0 ? "Border dispute" : "");
+
+        NationFlag flag = new NationFlag();
+        flag.setBaseColorId(11);
+        flag.addLayer("cr", 4);
+        flag.addLayer("bo", 15);
+        nation.setFlag(flag);
+        return nation;
+    }
+
+    private static Nation roundTrip(Nation nation, boolean summary, int threshold) {
+        byte[] framed = NationWireCodec.frame(NationWireCodec.write(nation, summary), threshold);
+        FriendlyByteBuf buf = new FriendlyByteBuf(Unpooled.wrappedBuffer(framed));
+        Nation decoded = NationWireCodec.read(buf);
+        assertEquals(0, buf.readableBytes(), "frame not fully consumed");
+        return decoded;
+    }
+
+    private static void assertSameFull(Nation expected, Nation actual) {
+        assertFalse(actual.isSummary());
+        assertEquals(expected.getId(), actual.getId());
+        assertEquals(expected.getName(), actual.getName());
+        assertEquals(expected.getTag(), actual.getTag());
+        assertEquals(expected.getColour(), actual.getColour());
+        assertEquals(expected.getDescription(), actual.getDescription());
+        assertEquals(expected.getLeaderId(), actual.getLeaderId());
+        assertEquals(expected.isOpenRecruitment(), actual.isOpenRecruitment());
+        assertEquals(expected.getTreasury(), actual.getTreasury());
+        assertEquals(expected.getScore(), actual.getScore());
+        assertEquals(expected.getTerritory(), actual.getTerritory());
+        assertEquals(expected.getPower(), actual.getPower());
+        assertEquals(expected.getCreatedAt(), actual.getCreatedAt());
+        assertEquals(expected.getCapitalX(), actual.getCapitalX());
+        assertEquals(expected.getCapitalZ(), actual.getCapitalZ());
+        assertEquals(expected.getFlag().contentHash(), actual.getFlag().contentHash());
+        assertEquals(expected.getMembers(), actual.getMembers());
+        assertEquals(expected.getPendingInvites(), actual.getPendingInvites());
+
+        assertEquals(expected.getRelations().keySet(), actual.getRelations().keySet());
+        for (DiplomacyRelation rel : expected.getRelations().values()) {
+            DiplomacyRelation other = actual.getRelations().get(rel.getToNationId());
+            assertEquals(rel.getType(), other.getType());
+            assertEquals(rel.getReason(), other.getReason());
+            assertEquals(rel.getEstablishedAt(), other.getEstablishedAt());
+        }
+        for (RelationType type : RelationType.values())
+            assertEquals(expected.countRelations(type), actual.countRelations(type));
+    }
+
+    // ── Round trips ──────────────────────────────────────────────────────────────
+
+    @Test
+    void fullRoundTrip() {
+        Nation nation = sampleNation();
+        assertSameFull(nation, roundTrip(nation, false, -1));
+    }
+
+    @Test
+    void deflatedRoundTrip() {
+        Nation nation = sampleNation();
+        assertSameFull(nation, roundTrip(nation, false, 0));
+    }
+
+    @Test
+    void summaryRoundTrip() {
+        Nation nation = sampleNation();
+        Nation decoded = roundTrip(nation, true, -1);
+        assertTrue(decoded.isSummary());
+        assertEquals(nation.getName(), decoded.getName());
+        assertEquals(nation.getMemberCount(), decoded.getMemberCount());
+        assertEquals(nation.getScore(), decoded.getScore());
+        assertEquals(nation.getFlag().contentHash(), decoded.getFlag().contentHash());
+        assertTrue(decoded.getMembers().isEmpty());
+        assertTrue(decoded.getRelations().isEmpty());
+    }
+
+    @Test
+    void equalNationsEncodeEqually() {
+        Nation nation = sampleNation();
+        assertArrayEquals(NationWireCodec.write(nation, false), NationWireCodec.write(nation, false));
+    }
+
+    // ── Size ─────────────────────────────────────────────────────────────────────
+
+    @Test
+    void fullBodyIsLessThanHalfTheNbt() throws IOException {
+        Nation nation = sampleNation();
+        ByteArrayOutputStream nbt = new ByteArrayOutputStream();
+        NbtIo.write(nation.toNBT(), new DataOutputStream(nbt));
+
+        int wire = NationWireCodec.write(nation, false).length;
+        assertTrue(wire * 2 < nbt.size(), "wire body " + wire + " B vs NBT " + nbt.size() + " B");
+    }
+
+    @Test
+    void summaryStaysSmall() {
+        int summary = NationWireCodec.write(sampleNation(), true).length;
+        assertTrue(summary <= 96, "summary body grew to " + summary + " B");
+    }
+
+    @Test
+    void deflatingShrinksLargeBodies() {
+        byte[] raw = NationWireCodec.write(sampleNation(), false);
+        assertTrue(NationWireCodec.frame(raw, 0).length < raw.length);
+    }
+
+    // ── Malformed input ──────────────────────────────────────────────────────────
+
+    @Test
+    void rejectsCompressedLengthPastEndOfBuffer() {
+        FriendlyByteBuf buf = new FriendlyByteBuf(Unpooled.buffer());
+        buf.writeVarInt(100 << 1 | 1);
+        buf.writeVarInt(Integer.MAX_VALUE);
+        buf.writeByte(0);
+        assertThrows(DecoderException.class, () -> NationWireCodec.read(buf));
+    }
+
+    @Test
+    void rejectsRawLengthPastEndOfBuffer() {
+        byte[] raw = NationWireCodec.write(sampleNation(), false);
+        FriendlyByteBuf buf = new FriendlyByteBuf(Unpooled.buffer());
+        buf.writeVarInt((raw.length + 1) << 1);
+        buf.writeBytes(raw);
+        assertThrows(DecoderException.class, () -> NationWireCodec.read(buf));
+    }
+
+    @Test
+    void rejectsRawLengthShorterThanBody() {
+        byte[] raw = NationWireCodec.write(sampleNation(), false);
+        FriendlyByteBuf buf = new FriendlyByteBuf(Unpooled.buffer());
+        buf.writeVarInt((raw.length - 1) << 1);
+        buf.writeBytes(raw);
+        assertThrows(DecoderException.class, () -> NationWireCodec.read(buf));
+    }
+
+    @Test
+    void rejectsRawLengthLongerThanBody() {
+        byte[] raw = NationWireCodec.write(sampleNation(), false);
+        FriendlyByteBuf buf = new FriendlyByteBuf(Unpooled.buffer());
+        buf.writeVarInt((raw.length + 2) << 1);
+        buf.writeBytes(raw);
+        buf.writeShort(0);
+        assertThrows(DecoderException.class, () -> NationWireCodec.read(buf));
+    }
+
+    @Test
+    void rejectsOversizedRawLength() {
+        FriendlyByteBuf buf = new FriendlyByteBuf(Unpooled.buffer());
+        buf.writeVarInt(Integer.MAX_VALUE >>> 1 << 1 | 1);
+        assertThrows(DecoderException.class, () -> NationWireCodec.read(buf));
+    }
+}
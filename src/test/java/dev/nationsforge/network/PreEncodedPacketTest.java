@@ -0,0 +1,98 @@
+package dev.nationsforge.network;
+
+import dev.nationsforge.nation.DiplomacyRequest;
+import dev.nationsforge.nation.RelationType;
+import dev.nationsforge.network.packet.S2CDiplomacyNotifyPacket;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import net.minecraft.network.FriendlyByteBuf;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that a {@link PreEncodedPacket} sent to a full server's worth of
+ * players serialises its body once and writes the same bytes to everyone.
+ */
+class PreEncodedPacketTest {
+
+    private static final int RECIPIENTS = 200;
+
+    /** Counts how often the body is serialised. */
+    private static final class CountingPacket extends PreEncodedPacket {
+        int writes;
+
+        @Override
+        protected void write(FriendlyByteBuf buf) {
+            writes++;
+            buf.writeVarInt(42);
+            buf.writeUtf("shared body");
+        }
+    }
+
+    /** A busy nation's pending request list. */
+    private static List<DiplomacyRequest> requests() {
+        RelationType[] types = { RelationType.ALLIANCE, RelationType.TRADE_PACT, RelationType.RIVALRY };
+        List<DiplomacyRequest> requests = new ArrayList<>();
+        for (int i = 0; i < 50; i++)
+            requests.add(new DiplomacyRequest(new UUID(1, i), new UUID(2, i), types[i % types.length],
+                    "Request number " + i + " — terms to be agreed at the border."));
+        return requests;
+    }
+
+    /** Encodes {@code packet} once per recipient into its own buffer, as the network layer does. */
+    private static List<ByteBuf> sendToAll(PreEncodedPacket packet) {
+        List<ByteBuf> sent = new ArrayList<>(RECIPIENTS);
+        for (int i = 0; i < RECIPIENTS; i++) {
+            FriendlyByteBuf buf = new FriendlyByteBuf(Unpooled.buffer());
+            packet.encode(buf);
+            sent.add(buf);
+        }
+        return sent;
+    }
+
+    @Test
+    void bodyIsWrittenOncePerPacket() {
+        CountingPacket packet = new CountingPacket();
+        sendToAll(packet);
+        assertEquals(1, packet.writes);
+    }
+
+    @Test
+    void everyRecipientGetsTheSameBytes() {
+        S2CDiplomacyNotifyPacket packet = new S2CDiplomacyNotifyPacket(requests());
+        List<ByteBuf> sent = sendToAll(packet);
+        byte[] first = ByteBufUtil.getBytes(sent.get(0));
+        for (ByteBuf buf : sent)
+            assertArrayEquals(first, ByteBufUtil.getBytes(buf));
+
+        // The shared bytes are what a direct write would have produced
+        S2CDiplomacyNotifyPacket decoded = S2CDiplomacyNotifyPacket.decode(new FriendlyByteBuf(sent.get(0)));
+        assertArrayEquals(first, decoded.payload());
+    }
+
+    @Test
+    void sharedPayloadIsCheaperThanEncodingPerRecipient() {
+        List<DiplomacyRequest> requests = requests();
+        long shared = Long.MAX_VALUE;
+        long perRecipient = Long.MAX_VALUE;
+        // Best of several rounds, so JIT warm-up and GC pauses do not decide it
+        for (int round = 0; round < 30; round++) {
+            long start = System.nanoTime();
+            sendToAll(new S2CDiplomacyNotifyPacket(requests));
+            shared = Math.min(shared, System.nanoTime() - start);
+
+            start = System.nanoTime();
+            for (int i = 0; i < RECIPIENTS; i++)
+                new S2CDiplomacyNotifyPacket(requests).encode(new FriendlyByteBuf(Unpooled.buffer()));
+            perRecipient = Math.min(perRecipient, System.nanoTime() - start);
+        }
+        assertTrue(shared < perRecipient, "shared payload took " + shared / 1_000 + " µs for " + RECIPIENTS
+                + " recipients, per-recipient encoding " + perRecipient / 1_000 + " µs");
+    }
+}